@@ -2,6 +2,34 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.0"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
+    id("com.google.protobuf") version "0.9.5"
+    id("org.graalvm.buildtools.native") version "0.10.6" apply false
+}
+
+// ./gradlew bootJar -PfastStartup runs Spring AOT processing so the jar can start with -Dspring.aot.enabled=true.
+// Beans are evaluated once at build time under the fast-startup profile; see "Fast Startup" in the README.
+if (providers.gradleProperty("fastStartup").isPresent) {
+    apply(plugin = "org.springframework.boot.aot")
+    tasks.named<JavaExec>("processAot") {
+        args("--spring.profiles.active=fast-startup")
+    }
+}
+
+// ./gradlew nativeCompile -PnativeBuild builds a GraalVM native executable; ./gradlew nativeTest -PnativeBuild
+// compiles the tests tagged "native" into a native test binary and runs them. Requires a GraalVM JDK 21.
+if (providers.gradleProperty("nativeBuild").isPresent) {
+    apply(plugin = "org.graalvm.buildtools.native")
+
+    configure<org.graalvm.buildtools.gradle.dsl.GraalVMExtension> {
+        metadataRepository {
+            enabled.set(true)
+        }
+        binaries.named("main") {
+            imageName.set("todo-list-api")
+            buildArgs.add("--enable-monitoring=jfr,heapdump")
+        }
+    }
 }
 
 val mockitoAgent: Configuration by configurations.creating
@@ -23,13 +51,36 @@ dependencies {
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
     implementation("org.springframework.boot:spring-boot-starter-validation")
 
+    // Binary formats
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("org.msgpack:jackson-dataformat-msgpack:0.9.8")
+
+    // gRPC
+    implementation(platform("io.grpc:grpc-bom:1.73.0"))
+    implementation("io.grpc:grpc-netty-shaded")
+    implementation("io.grpc:grpc-protobuf")
+    implementation("io.grpc:grpc-stub")
+
+    // Observability
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    implementation("io.micrometer:micrometer-tracing-bridge-otel")
+    implementation("io.opentelemetry:opentelemetry-exporter-otlp")
+    implementation("net.ttddyy.observation:datasource-micrometer-spring-boot:1.1.1")
+
     // Testing
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     testRuntimeOnly("com.h2database:h2")
     testImplementation("org.testcontainers:postgresql:1.20.6")
+    testImplementation("io.opentelemetry:opentelemetry-sdk-testing")
     mockitoAgent("org.mockito:mockito-core") { isTransitive = false }
 
+    // Benchmarks
+    jmh("org.springframework:spring-test")
+
     // Security
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
@@ -40,11 +91,88 @@ dependencies {
     implementation("org.apache.commons:commons-compress:1.26.0")
 }
 
+protobuf {
+    protoc {
+        artifact = "com.google.protobuf:protoc:3.25.5"
+    }
+    plugins {
+        id("grpc") {
+            artifact = "io.grpc:protoc-gen-grpc-java:1.73.0"
+        }
+    }
+    generateProtoTasks {
+        all().forEach { task ->
+            task.plugins {
+                id("grpc") {
+                    option("@generated=omit")
+                }
+            }
+        }
+    }
+}
+
 tasks.withType<Test> {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        // Mocks, Testcontainers and the embedded gRPC channel tests do not run in a native image.
+        if (providers.gradleProperty("nativeBuild").isPresent) {
+            includeTags("native")
+        }
+    }
     jvmArgs("-javaagent:${mockitoAgent.asPath}")
 }
 
 tasks.withType<JavaCompile> {
     options.compilerArgs.add("-parameters")
-}
\ No newline at end of file
+}
+
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "loadTestRuntimeOnly"("com.h2database:h2")
+}
+
+// Run with ./gradlew loadTest --args="--users=100 --tasks-per-user=200 --rate=300 --duration=60s".
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Boots the API on an in-memory database and drives a synthetic workload against it."
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("com.dominik.todolist.loadtest.LoadTestMain")
+    jvmArgs("-Xms1g", "-Xmx1g")
+}
+
+// Run with ./gradlew startupBenchmark -PfastStartup against the database from application.properties.
+// Without -PfastStartup the jar has no AOT classes and only the baseline is measured.
+tasks.register<JavaExec>("startupBenchmark") {
+    group = "verification"
+    description = "Starts the packaged application repeatedly in each startup mode and reports time to first request."
+    val bootJar = tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar")
+    dependsOn(bootJar)
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("com.dominik.todolist.loadtest.StartupBenchmarkMain")
+    val workDir = layout.buildDirectory.dir("startup-benchmark")
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(
+            "--jar=${bootJar.get().archiveFile.get().asFile.absolutePath}",
+            "--work-dir=${workDir.get().asFile.absolutePath}"
+        )
+    })
+}
+
+// Run with ./gradlew jmh, or ./gradlew jmh -PjmhIncludes=JwtUtil to run a subset.
+// Results are written to build/results/jmh/results.json for comparison between runs.
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
@@ -0,0 +1,40 @@
+package com.dominik.todolist.config;
+
+import com.dominik.todolist.model.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts the {@code status} request parameter the way Spring MVC binds it to {@link TaskStatus}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskStatusBindingBenchmark {
+
+    private ConversionService conversionService;
+
+    @Setup
+    public void setUp() {
+        conversionService = new DefaultFormattingConversionService();
+    }
+
+    @Benchmark
+    public TaskStatus conversionService() {
+        return conversionService.convert("IN_PROGRESS", TaskStatus.class);
+    }
+
+    @Benchmark
+    public TaskStatus valueOf() {
+        return TaskStatus.valueOf("IN_PROGRESS");
+    }
+}
@@ -0,0 +1,97 @@
+package com.dominik.todolist.dto;
+
+import com.dominik.todolist.json.TaskJsonModule;
+import com.dominik.todolist.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Encodes and decodes a page of tasks in each format the API negotiates. The encoded size is reported
+ * as the secondary {@code encode:payloadBytes} result, next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskFormatBenchmark {
+
+    @Param({"json", "cbor", "smile", "msgpack"})
+    public String format;
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private TaskListResponse listResponse;
+    private byte[] encoded;
+
+    /**
+     * Read by JMH at the end of each iteration. Counters are summed across threads, so the value is
+     * the payload size only with the default single benchmark thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        final JsonFactory factory = switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            case "msgpack" -> new MessagePackFactory();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        // Same builder settings and modules as the application's HTTP message converters.
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .modulesToInstall(new TaskJsonModule())
+                .build();
+
+        final Instant now = Instant.now();
+        listResponse = new TaskListResponse(
+                new TaskListResponse.Owner(1L, "benchmark.user@example.com"),
+                LongStream.rangeClosed(1, pageSize)
+                        .mapToObj(id -> new TaskListResponse.Item(
+                                id,
+                                "Task " + id,
+                                "Description of task " + id,
+                                TaskStatus.values()[(int) (id % TaskStatus.values().length)],
+                                now,
+                                now))
+                        .toList(),
+                new TaskListResponse.PageInfo(0, pageSize, 1_000, 1_000 / pageSize));
+        encoded = objectMapper.writeValueAsBytes(listResponse);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws IOException {
+        final byte[] payload = objectMapper.writeValueAsBytes(listResponse);
+        size.payloadBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public TaskListResponse decode() throws IOException {
+        return objectMapper.readValue(encoded, TaskListResponse.class);
+    }
+}
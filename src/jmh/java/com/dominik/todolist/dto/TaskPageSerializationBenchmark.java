@@ -0,0 +1,85 @@
+package com.dominik.todolist.dto;
+
+import com.dominik.todolist.json.TaskJsonModule;
+import com.dominik.todolist.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Serializes a page of tasks as the list endpoint used to (Spring's {@code PageImpl} with the
+ * owner repeated on every row) and as it does now ({@link TaskListResponse}), the latter both
+ * through Jackson's reflective serializer and through {@link TaskJsonModule}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskPageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper specializedObjectMapper;
+    private Page<TaskResponse> page;
+    private TaskListResponse listResponse;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring Boot builds for the application.
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        specializedObjectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new TaskJsonModule()).build();
+
+        final Instant now = Instant.now();
+        final List<TaskResponse> tasks = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> new TaskResponse(
+                        id,
+                        "Task " + id,
+                        "Description of task " + id,
+                        TaskStatus.values()[(int) (id % TaskStatus.values().length)],
+                        now,
+                        now,
+                        1L,
+                        "benchmark.user@example.com"))
+                .toList();
+        page = new PageImpl<>(tasks, PageRequest.of(0, pageSize), 1_000);
+        listResponse = new TaskListResponse(
+                new TaskListResponse.Owner(1L, "benchmark.user@example.com"),
+                tasks.stream()
+                        .map(task -> new TaskListResponse.Item(task.id(), task.title(), task.description(),
+                                task.status(), task.createdAt(), task.updatedAt()))
+                        .toList(),
+                new TaskListResponse.PageInfo(0, pageSize, 1_000, 1_000 / pageSize));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeListResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeListResponseSpecialized() throws JsonProcessingException {
+        return specializedObjectMapper.writeValueAsBytes(listResponse);
+    }
+}
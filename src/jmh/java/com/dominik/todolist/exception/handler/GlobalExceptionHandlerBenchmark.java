@@ -0,0 +1,64 @@
+package com.dominik.todolist.exception.handler;
+
+import com.dominik.todolist.controller.TaskController;
+import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.exception.TaskConflictException;
+import com.dominik.todolist.exception.TaskNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds error responses, including constructing the exception, as a failing request would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private HttpServletRequest request;
+    private MethodParameter createTaskParameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("PUT", "/api/tasks/42");
+        createTaskParameter = new MethodParameter(
+                TaskController.class.getMethod("createTask", CreateTaskRequest.class), 0);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> conflict() {
+        return handler.handleTaskConflictException(
+                new TaskConflictException("Task with id 42 was modified concurrently"), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> notFound() {
+        return handler.handleTaskNotFound(TaskNotFoundException.withId(42L), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> validationFailure() {
+        final var bindingResult = new MapBindingResult(new HashMap<>(), "createTaskRequest");
+        bindingResult.addError(new FieldError("createTaskRequest", "title", "Title cannot be blank"));
+        bindingResult.addError(new FieldError("createTaskRequest", "description", "Description cannot be blank"));
+        return handler.handleValidationExceptions(
+                new MethodArgumentNotValidException(createTaskParameter, bindingResult), request);
+    }
+}
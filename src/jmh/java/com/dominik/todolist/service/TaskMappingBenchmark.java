@@ -0,0 +1,52 @@
+package com.dominik.todolist.service;
+
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.model.Task;
+import com.dominik.todolist.model.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMappingBenchmark {
+
+    private TaskService taskService;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        // Mapping touches none of the collaborators.
+        taskService = new TaskService(null, null, null, null, null, null);
+
+        final var appUser = AppUser.builder()
+                .id(1L)
+                .email("benchmark.user@example.com")
+                .name("Benchmark User")
+                .password("password")
+                .build();
+        task = Task.builder()
+                .id(42L)
+                .title("Write benchmarks")
+                .description("Measure the request hot path before optimizing it")
+                .status(TaskStatus.IN_PROGRESS)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .appUser(appUser)
+                .build();
+    }
+
+    @Benchmark
+    public TaskResponse mapToTaskResponse() {
+        return taskService.mapToTaskResponse(task);
+    }
+}
@@ -0,0 +1,98 @@
+package com.dominik.todolist.loadtest;
+
+import com.dominik.todolist.model.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts users and tasks with batched JDBC statements, bypassing the API and JPA.
+ */
+class DataSeeder {
+
+    static final String PASSWORD = "password123";
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    DataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    static String email(int userIndex) {
+        return "loadtest-user-" + userIndex + "@example.com";
+    }
+
+    /**
+     * @return The seeded task ids of each user, indexed by user index.
+     */
+    List<long[]> seed(int users, int tasksPerUser) {
+        // One hash for everyone: BCrypt would otherwise dominate seeding time.
+        final String passwordHash = passwordEncoder.encode(PASSWORD);
+        final List<Object[]> userRows = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            userRows.add(new Object[]{"Load Test User " + i, email(i), passwordHash});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (name, email, password) VALUES (?, ?, ?)", userRows);
+
+        final Map<String, Long> userIdsByEmail = new HashMap<>();
+        jdbcTemplate.query("SELECT id, email FROM users",
+                row -> {
+                    userIdsByEmail.put(row.getString("email"), row.getLong("id"));
+                });
+
+        final TaskStatus[] statuses = TaskStatus.values();
+        final Timestamp now = Timestamp.from(Instant.now());
+        final List<Object[]> taskRows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < users; i++) {
+            final long userId = userIdsByEmail.get(email(i));
+            for (int t = 0; t < tasksPerUser; t++) {
+                taskRows.add(new Object[]{
+                        "Task " + t + " of user " + i,
+                        "Seeded task used to generate realistic list and lookup traffic.",
+                        statuses[t % statuses.length].name(),
+                        now,
+                        now,
+                        userId
+                });
+                if (taskRows.size() == BATCH_SIZE) {
+                    insertTasks(taskRows);
+                    taskRows.clear();
+                }
+            }
+        }
+        insertTasks(taskRows);
+
+        final Map<Long, List<Long>> taskIdsByUserId = new HashMap<>();
+        jdbcTemplate.query("SELECT id, user_id FROM tasks ORDER BY id",
+                row -> {
+                    taskIdsByUserId.computeIfAbsent(row.getLong("user_id"), id -> new ArrayList<>())
+                            .add(row.getLong("id"));
+                });
+
+        final List<long[]> taskIdsByUserIndex = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            final var ids = taskIdsByUserId.getOrDefault(userIdsByEmail.get(email(i)), List.of());
+            taskIdsByUserIndex.add(ids.stream().mapToLong(Long::longValue).toArray());
+        }
+        return taskIdsByUserIndex;
+    }
+
+    private void insertTasks(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tasks (title, description, status, created_at, updated_at, is_deleted, user_id)
+                VALUES (?, ?, ?, ?, ?, false, ?)
+                """, rows);
+    }
+}
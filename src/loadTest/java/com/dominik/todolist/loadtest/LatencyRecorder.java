@@ -0,0 +1,63 @@
+package com.dominik.todolist.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the latencies and outcomes of one operation.
+ */
+class LatencyRecorder {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+
+    synchronized void record(long latencyNanos) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    void recordNotFound() {
+        notFound.increment();
+    }
+
+    long errorCount() {
+        return errors.sum();
+    }
+
+    long notFoundCount() {
+        return notFound.sum();
+    }
+
+    synchronized Snapshot snapshot() {
+        final long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted);
+    }
+
+    record Snapshot(long[] sortedNanos) {
+
+        int count() {
+            return sortedNanos.length;
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            final int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+            return sortedNanos[Math.clamp(index, 0, sortedNanos.length - 1)] / 1_000_000.0;
+        }
+
+        double maxMillis() {
+            return sortedNanos.length == 0 ? 0 : sortedNanos[sortedNanos.length - 1] / 1_000_000.0;
+        }
+    }
+}
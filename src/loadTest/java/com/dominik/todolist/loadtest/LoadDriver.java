@@ -0,0 +1,184 @@
+package com.dominik.todolist.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issues requests at a fixed arrival rate (an open workload model). Latency is measured from the
+ * moment a request was scheduled to start, so time spent waiting for a free client counts too and
+ * a slow server cannot hide its queueing delay.
+ */
+class LoadDriver {
+
+    private static final String[] STATUS_FILTERS = {null, "TO_DO", "IN_PROGRESS", "DONE"};
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final List<long[]> taskIdsByUser;
+    private final ObjectMapper objectMapper;
+    private final WorkloadMix mix;
+    private final HttpClient httpClient;
+    private final Map<Integer, String> tokensByUser = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<long[]> deletedTasks = new ConcurrentLinkedQueue<>();
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+
+    LoadDriver(LoadTestConfig config, String baseUrl, List<long[]> taskIdsByUser, ObjectMapper objectMapper) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.taskIdsByUser = taskIdsByUser;
+        this.objectMapper = objectMapper;
+        this.mix = new WorkloadMix(config.mix());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+    }
+
+    /**
+     * @return The recorders of every operation, holding results from after the warm-up only.
+     */
+    Map<Operation, LatencyRecorder> run() throws InterruptedException {
+        final ExecutorService clients = Executors.newFixedThreadPool(config.clients());
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.ratePerSecond();
+        final long start = System.nanoTime();
+        final long measureFrom = start + config.warmup().toNanos();
+        final long end = measureFrom + config.duration().toNanos();
+
+        for (long intendedStart = start; intendedStart < end; intendedStart += intervalNanos) {
+            final long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            final long scheduled = intendedStart;
+            final Operation operation = mix.next();
+            clients.execute(() -> execute(operation, scheduled, scheduled >= measureFrom));
+        }
+
+        clients.shutdown();
+        if (!clients.awaitTermination(1, TimeUnit.MINUTES)) {
+            clients.shutdownNow();
+        }
+        return recorders;
+    }
+
+    private void execute(Operation operation, long scheduledNanos, boolean measured) {
+        final int user = ThreadLocalRandom.current().nextInt(taskIdsByUser.size());
+        int status;
+        try {
+            status = send(operation, user);
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (!measured) {
+            return;
+        }
+        final var recorder = recorders.get(operation);
+        recorder.record(System.nanoTime() - scheduledNanos);
+        if (status == 404) {
+            recorder.recordNotFound();
+        } else if (status < 200 || status >= 300) {
+            recorder.recordError();
+        }
+    }
+
+    private int send(Operation operation, int user) throws IOException, InterruptedException {
+        return switch (operation) {
+            case LOGIN -> {
+                final var response = login(user);
+                yield response.statusCode();
+            }
+            case LIST -> {
+                final String filter = STATUS_FILTERS[ThreadLocalRandom.current().nextInt(STATUS_FILTERS.length)];
+                final int page = ThreadLocalRandom.current().nextInt(config.maxListPage() + 1);
+                final String query = "?page=" + page + "&size=20" + (filter != null ? "&status=" + filter : "");
+                yield authorized(user, "GET", "/api/tasks" + query, null);
+            }
+            case GET -> authorized(user, "GET", "/api/tasks/" + randomTask(user), null);
+            case CREATE -> authorized(user, "POST", "/api/tasks", """
+                    {"title": "Load test task", "description": "Created by the load test harness"}
+                    """);
+            case UPDATE -> authorized(user, "PUT", "/api/tasks/" + randomTask(user), """
+                    {"title": "Updated task", "description": "Updated by the load test harness", "status": "IN_PROGRESS"}
+                    """);
+            case DELETE -> {
+                final long taskId = randomTask(user);
+                final int status = authorized(user, "DELETE", "/api/tasks/" + taskId, null);
+                if (status == 204) {
+                    deletedTasks.add(new long[]{user, taskId});
+                }
+                yield status;
+            }
+            case RESTORE -> {
+                final long[] deleted = deletedTasks.poll();
+                if (deleted == null) {
+                    yield authorized(user, "GET", "/api/tasks/" + randomTask(user), null);
+                }
+                yield authorized((int) deleted[0], "POST", "/api/tasks/" + deleted[1] + "/restore", null);
+            }
+        };
+    }
+
+    private long randomTask(int user) {
+        final long[] taskIds = taskIdsByUser.get(user);
+        return taskIds.length == 0 ? 0 : taskIds[ThreadLocalRandom.current().nextInt(taskIds.length)];
+    }
+
+    private int authorized(int user, String method, String path, String body) throws IOException, InterruptedException {
+        String token = tokensByUser.get(user);
+        if (token == null) {
+            login(user);
+            token = tokensByUser.get(user);
+            if (token == null) {
+                return 401;
+            }
+        }
+
+        final var request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .method(method, body != null
+                        ? HttpRequest.BodyPublishers.ofString(body)
+                        : HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpResponse<String> login(int user) throws IOException, InterruptedException {
+        final String body = objectMapper.writeValueAsString(
+                Map.of("email", DataSeeder.email(user), "password", DataSeeder.PASSWORD));
+        final var request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        final var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200) {
+            tokensByUser.put(user, objectMapper.readTree(response.body()).get("token").asText());
+        }
+        return response;
+    }
+}
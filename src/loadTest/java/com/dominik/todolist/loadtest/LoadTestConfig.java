@@ -0,0 +1,71 @@
+package com.dominik.todolist.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, parsed from {@code --name=value} arguments.
+ */
+record LoadTestConfig(
+        int users,
+        int tasksPerUser,
+        int ratePerSecond,
+        Duration duration,
+        Duration warmup,
+        int clients,
+        int maxListPage,
+        Map<Operation, Integer> mix,
+        double maxErrorRate,
+        String profile
+) {
+
+    private static final String DEFAULT_MIX = "login=2,list=35,get=25,create=12,update=12,delete=7,restore=7";
+
+    static LoadTestConfig parse(String[] args) {
+        final Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            final int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestConfig(
+                Integer.parseInt(values.getOrDefault("users", "100")),
+                Integer.parseInt(values.getOrDefault("tasks-per-user", "200")),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                Integer.parseInt(values.getOrDefault("clients", "64")),
+                Integer.parseInt(values.getOrDefault("max-list-page", "9")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")),
+                values.get("profile")
+        );
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            final String[] parts = entry.split("=");
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,114 @@
+package com.dominik.todolist.loadtest;
+
+import com.dominik.todolist.TodoListApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Boots the application against an in-memory H2 database, seeds it, drives a configurable mix of
+ * API calls at a target rate and prints throughput, latency percentiles and errors per operation.
+ * Exits with status 1 when the error rate exceeds {@code --max-error-rate}.
+ *
+ * <p>Run with {@code ./gradlew loadTest --args="--users=100 --tasks-per-user=200 --rate=300 --duration=60s"}.
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws InterruptedException {
+        final var config = LoadTestConfig.parse(args);
+
+        final var application = new SpringApplicationBuilder(TodoListApplication.class);
+        if (config.profile() != null) {
+            application.profiles(config.profile());
+        }
+
+        // Passed as command line arguments so they take precedence over application.properties.
+        final String[] applicationArgs = {
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=20",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--jwt.secret=" + randomSecret(),
+                "--jwt.expiration.ms=3600000",
+                "--logging.level.root=WARN"
+        };
+
+        boolean failed = false;
+        try (var context = application.run(applicationArgs)) {
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            System.out.printf("Seeding %d users with %d tasks each...%n", config.users(), config.tasksPerUser());
+            final long seedStart = System.nanoTime();
+            final var taskIdsByUser = new DataSeeder(
+                    context.getBean(JdbcTemplate.class),
+                    context.getBean(PasswordEncoder.class)
+            ).seed(config.users(), config.tasksPerUser());
+            System.out.printf("Seeded in %d ms.%n", (System.nanoTime() - seedStart) / 1_000_000);
+
+            System.out.printf("Driving %d req/s with %d clients for %s after a %s warm-up...%n",
+                    config.ratePerSecond(), config.clients(), config.duration(), config.warmup());
+            final var recorders = new LoadDriver(
+                    config,
+                    "http://localhost:" + port,
+                    taskIdsByUser,
+                    context.getBean(ObjectMapper.class)
+            ).run();
+
+            final double errorRate = printReport(recorders, config.duration().toMillis() / 1000.0);
+            if (errorRate > config.maxErrorRate()) {
+                System.err.printf("Error rate %.2f%% exceeds the allowed %.2f%%.%n",
+                        errorRate * 100, config.maxErrorRate() * 100);
+                failed = true;
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static double printReport(Map<Operation, LatencyRecorder> recorders, double seconds) {
+        System.out.printf("%n%-8s %9s %8s %9s %10s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "notFound", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (var entry : recorders.entrySet()) {
+            final var recorder = entry.getValue();
+            final var snapshot = recorder.snapshot();
+            if (snapshot.count() == 0) {
+                continue;
+            }
+            totalRequests += snapshot.count();
+            totalErrors += recorder.errorCount();
+            System.out.printf("%-8s %9d %8d %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().name().toLowerCase(),
+                    snapshot.count(),
+                    recorder.errorCount(),
+                    recorder.notFoundCount(),
+                    snapshot.count() / seconds,
+                    snapshot.percentileMillis(50),
+                    snapshot.percentileMillis(90),
+                    snapshot.percentileMillis(99),
+                    snapshot.percentileMillis(99.9),
+                    snapshot.maxMillis());
+        }
+
+        System.out.printf("%ntotal    %9d requests, %.1f req/s, %d errors%n",
+                totalRequests, totalRequests / seconds, totalErrors);
+        return totalRequests == 0 ? 0 : (double) totalErrors / totalRequests;
+    }
+
+    private static String randomSecret() {
+        final byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+}
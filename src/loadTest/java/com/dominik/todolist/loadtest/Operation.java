@@ -0,0 +1,11 @@
+package com.dominik.todolist.loadtest;
+
+enum Operation {
+    LOGIN,
+    LIST,
+    GET,
+    CREATE,
+    UPDATE,
+    DELETE,
+    RESTORE
+}
@@ -0,0 +1,183 @@
+package com.dominik.todolist.loadtest;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+/**
+ * Measures time to first request of the packaged application: each run starts a fresh JVM and polls
+ * {@code /actuator/health} until the server answers. Compares the plain jar with the fast-startup mode (AOT and
+ * deferred JPA bootstrap), with and without a class data sharing archive trained from the same extracted jar.
+ *
+ * <p>Uses the database from {@code application.properties}, so {@code DB_PASSWORD} must be set. The baseline runs
+ * first and creates the schema; the fast-startup runs expect it to exist.
+ *
+ * <p>Run with {@code ./gradlew startupBenchmark -PfastStartup --args="--runs=10"}.
+ */
+public class StartupBenchmarkMain {
+
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/com/dominik/todolist/TodoListApplication__ApplicationContextInitializer.class";
+
+    private record Variant(String name, Path jar, List<String> jvmArgs, List<String> applicationArgs) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> values = parse(args);
+        final Path jar = Path.of(required(values, "jar"));
+        final Path workDir = Path.of(values.getOrDefault("work-dir", "build/startup-benchmark"));
+        final int runs = Integer.parseInt(values.getOrDefault("runs", "5"));
+        final int port = Integer.parseInt(values.getOrDefault("port", "18080"));
+        final Duration timeout = Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout-seconds", "120")));
+        final String java = ProcessHandle.current().info().command().orElse("java");
+        final String jwtSecret = randomSecret();
+
+        final List<Variant> variants = new ArrayList<>();
+        variants.add(new Variant("baseline", jar, List.of(), List.of()));
+
+        if (hasAotClasses(jar)) {
+            final Path extracted = workDir.resolve("extracted");
+            final Path archive = extracted.resolve("app.jsa");
+            run(List.of(java, "-Djarmode=tools", "-jar", jar.toString(),
+                    "extract", "--destination", extracted.toString(), "--application-filename", "app.jar", "--force"),
+                    workDir, jwtSecret);
+
+            System.out.println("Training the class data sharing archive...");
+            Files.deleteIfExists(archive);
+            run(List.of(java, "-XX:ArchiveClassesAtExit=" + archive, "-Dspring.aot.enabled=true",
+                    "-Dspring.context.exit=onRefresh", "-jar", extracted.resolve("app.jar").toString(),
+                    "--spring.profiles.active=fast-startup", "--app.grpc.port=0"), extracted, jwtSecret);
+
+            final var fastStartup = List.of("--spring.profiles.active=fast-startup");
+            variants.add(new Variant("aot", extracted.resolve("app.jar"),
+                    List.of("-Dspring.aot.enabled=true"), fastStartup));
+            variants.add(new Variant("aot+cds", extracted.resolve("app.jar"),
+                    List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true"), fastStartup));
+        } else {
+            System.out.println("The jar has no AOT classes; rebuild with -PfastStartup to compare startup modes.");
+        }
+
+        final var client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        final Map<String, long[]> results = new HashMap<>();
+        for (Variant variant : variants) {
+            final long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = timeToFirstRequest(java, variant, port, timeout, jwtSecret, client);
+                System.out.printf("%-8s run %d: %d ms%n", variant.name(), i + 1, millis[i]);
+            }
+            results.put(variant.name(), millis);
+        }
+
+        System.out.printf("%n%-8s %9s %9s %9s%n", "mode", "median ms", "min ms", "max ms");
+        for (Variant variant : variants) {
+            final long[] millis = results.get(variant.name()).clone();
+            Arrays.sort(millis);
+            System.out.printf("%-8s %9d %9d %9d%n",
+                    variant.name(), millis[millis.length / 2], millis[0], millis[millis.length - 1]);
+        }
+    }
+
+    private static long timeToFirstRequest(String java, Variant variant, int port, Duration timeout,
+                                           String jwtSecret, HttpClient client) throws Exception {
+        final List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(variant.jvmArgs());
+        command.add("-jar");
+        command.add(variant.jar().toString());
+        command.addAll(variant.applicationArgs());
+        command.add("--server.port=" + port);
+        command.add("--app.grpc.port=0");
+        command.add("--logging.level.root=WARN");
+
+        final var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        final long start = System.nanoTime();
+        final Process process = start(command, variant.jar().getParent(), jwtSecret)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try {
+            final long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with status " + process.exitValue());
+                }
+                try {
+                    // Any status counts: the server is accepting requests even if a health indicator is down.
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    return (System.nanoTime() - start) / 1_000_000;
+                } catch (ConnectException e) {
+                    Thread.sleep(10);
+                }
+            }
+            throw new IllegalStateException(variant.name() + " did not answer within " + timeout);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void run(List<String> command, Path directory, String jwtSecret)
+            throws IOException, InterruptedException {
+        final int status = start(command, directory, jwtSecret).inheritIO().start().waitFor();
+        if (status != 0) {
+            throw new IllegalStateException("Command failed with status " + status + ": " + String.join(" ", command));
+        }
+    }
+
+    private static ProcessBuilder start(List<String> command, Path directory, String jwtSecret) throws IOException {
+        Files.createDirectories(directory);
+        final var builder = new ProcessBuilder(command).directory(directory.toFile());
+        builder.environment().put("JWT_SECRET", jwtSecret);
+        builder.environment().putIfAbsent("DB_PASSWORD", "");
+        return builder;
+    }
+
+    private static boolean hasAotClasses(Path jar) throws IOException {
+        try (var file = new JarFile(jar.toFile())) {
+            return file.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        final Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            final int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return values;
+    }
+
+    private static String required(Map<String, String> values, String name) {
+        final String value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name + "=...");
+        }
+        return value;
+    }
+
+    private static String randomSecret() {
+        final byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+}
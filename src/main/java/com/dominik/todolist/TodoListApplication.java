@@ -1,16 +1,47 @@
 package com.dominik.todolist;
 
+import com.dominik.todolist.config.DataSourceConcurrencyProperties;
+import com.dominik.todolist.config.DataSourceRoutingProperties;
+import com.dominik.todolist.config.GrpcProperties;
+import com.dominik.todolist.config.LoadSheddingProperties;
+import com.dominik.todolist.config.NativeRuntimeHints;
+import com.dominik.todolist.config.OutboxProperties;
+import com.dominik.todolist.config.PinningMonitorProperties;
+import com.dominik.todolist.config.ProfilingProperties;
+import com.dominik.todolist.config.RequestDeadlineProperties;
+import com.dominik.todolist.config.TaskChangesProperties;
 import com.dominik.todolist.config.TaskCleanupProperties;
+import com.dominik.todolist.config.TaskCreateBatchProperties;
+import com.dominik.todolist.config.TaskIdFilterProperties;
+import com.dominik.todolist.config.TaskStreamProperties;
+import com.dominik.todolist.config.WarmUpProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
-@EnableConfigurationProperties(TaskCleanupProperties.class)
+@ImportRuntimeHints(NativeRuntimeHints.class)
+@EnableConfigurationProperties({
+        TaskCleanupProperties.class,
+        TaskChangesProperties.class,
+        TaskStreamProperties.class,
+        OutboxProperties.class,
+        DataSourceRoutingProperties.class,
+        DataSourceConcurrencyProperties.class,
+        PinningMonitorProperties.class,
+        TaskIdFilterProperties.class,
+        ProfilingProperties.class,
+        LoadSheddingProperties.class,
+        RequestDeadlineProperties.class,
+        GrpcProperties.class,
+        WarmUpProperties.class,
+        TaskCreateBatchProperties.class
+})
 public class TodoListApplication {
     private static final Logger LOGGER = LoggerFactory.getLogger(TodoListApplication.class);
 
@@ -0,0 +1,49 @@
+package com.dominik.todolist.config;
+
+import com.dominik.todolist.web.MessagePackHttpMessageConverter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Lets API clients exchange CBOR, Smile or MessagePack instead of JSON, selected through the
+ * {@code Accept} and {@code Content-Type} headers.
+ *
+ * <p>Spring MVC registers CBOR and Smile converters on its own once the formats are on the classpath,
+ * but with a plain ObjectMapper. They are replaced with mappers from Spring Boot's customized builder,
+ * so every format shares the JSON mapper's modules and settings and decodes to the same values. The
+ * binary converters go after the JSON one, so clients that accept anything still get JSON.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    @Bean
+    public WebMvcConfigurer binaryFormatsConfigurer(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                        || converter instanceof MappingJackson2SmileHttpMessageConverter);
+                converters.add(new MappingJackson2CborHttpMessageConverter(objectMapper(builders, new CBORFactory())));
+                converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapper(builders, new SmileFactory())));
+                converters.add(new MessagePackHttpMessageConverter(objectMapper(builders, new MessagePackFactory())));
+            }
+        };
+    }
+
+    private static ObjectMapper objectMapper(ObjectProvider<Jackson2ObjectMapperBuilder> builders, JsonFactory factory) {
+        return builders.getObject().factory(factory).build();
+    }
+}
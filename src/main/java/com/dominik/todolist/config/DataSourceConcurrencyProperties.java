@@ -0,0 +1,26 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * @param maxConcurrent Connections that may be held at once; 0 uses the Hikari maximum pool size.
+ */
+@ConfigurationProperties(prefix = "app.datasource.concurrency")
+@Validated
+public record DataSourceConcurrencyProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @Min(0)
+        @DefaultValue("0")
+        int maxConcurrent,
+
+        @Min(1)
+        @DefaultValue("30000")
+        long acquireTimeoutMs
+) {
+
+}
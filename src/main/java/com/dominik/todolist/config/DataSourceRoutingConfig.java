@@ -0,0 +1,88 @@
+package com.dominik.todolist.config;
+
+import com.dominik.todolist.datasource.ReadYourWritesTracker;
+import com.dominik.todolist.datasource.ReplicaPool;
+import com.dominik.todolist.datasource.ReplicaRoutingDataSource;
+import com.dominik.todolist.datasource.ReplicaSet;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        final var dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaSet replicaSet(DataSourceProperties dataSourceProperties, DataSourceRoutingProperties routingProperties) {
+        final List<ReplicaPool> replicas = new ArrayList<>();
+        for (int i = 0; i < routingProperties.replicas().size(); i++) {
+            final var replica = routingProperties.replicas().get(i);
+            final var name = "replica-" + (i + 1);
+
+            final var dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.url())
+                    .username(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername())
+                    .password(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword())
+                    .build();
+            dataSource.setPoolName(name);
+            dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            dataSource.setReadOnly(true);
+
+            replicas.add(new ReplicaPool(name, dataSource));
+        }
+        return new ReplicaSet(replicas, routingProperties.healthCheckTimeoutSeconds());
+    }
+
+    /**
+     * Replica pools are not beans, so Boot's Hikari metrics do not pick them up on their own.
+     */
+    @Bean
+    public MeterBinder replicaPoolMetrics(ReplicaSet replicaSet) {
+        return registry -> replicaSet.getReplicas().forEach(replica -> {
+            final var hikari = (HikariDataSource) replica.getDataSource();
+            if (hikari.getHikariPoolMXBean() == null) {
+                hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        });
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties routingProperties) {
+        return new ReadYourWritesTracker(Duration.ofMillis(routingProperties.readYourWritesWindowMs()));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaSet replicaSet,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        final var routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaSet, readYourWritesTracker);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,49 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.datasource.routing")
+@Validated
+public record DataSourceRoutingProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @Valid
+        @DefaultValue
+        List<Replica> replicas,
+
+        @Min(0)
+        @DefaultValue("5000")
+        long readYourWritesWindowMs,
+
+        @Min(100)
+        @DefaultValue("5000")
+        long healthCheckIntervalMs,
+
+        @Min(1)
+        @DefaultValue("1")
+        int healthCheckTimeoutSeconds
+) {
+
+    public record Replica(
+            @NotBlank
+            String url,
+
+            String username,
+
+            String password,
+
+            @Min(1)
+            @DefaultValue("10")
+            int maximumPoolSize
+    ) {
+
+    }
+}
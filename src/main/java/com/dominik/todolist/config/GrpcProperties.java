@@ -0,0 +1,38 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the gRPC server that runs next to the REST API.
+ *
+ * @param enabled                     Whether to start the server. It listens in plaintext, so bearer tokens are only
+ *                                    protected if TLS is terminated in front of it.
+ * @param port                        Port of the gRPC server; 0 picks a free one.
+ * @param shutdownGracePeriodSeconds  How long in-flight calls may finish on shutdown before they are cancelled.
+ * @param maxThreads                  Platform threads for call handlers; calls beyond this wait in a queue.
+ *                                    Not used with virtual threads.
+ */
+@ConfigurationProperties(prefix = "app.grpc")
+@Validated
+public record GrpcProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @Min(0)
+        @Max(65535)
+        @DefaultValue("9090")
+        int port,
+
+        @Min(0)
+        @DefaultValue("10")
+        int shutdownGracePeriodSeconds,
+
+        @Min(1)
+        @DefaultValue("200")
+        int maxThreads
+) {
+}
@@ -0,0 +1,86 @@
+package com.dominik.todolist.config;
+
+import com.dominik.todolist.grpc.ConcurrencyLimitServerInterceptor;
+import com.dominik.todolist.grpc.GrpcServerLifecycle;
+import com.dominik.todolist.grpc.JwtServerInterceptor;
+import com.dominik.todolist.grpc.TaskGrpcService;
+import com.dominik.todolist.security.JwtUtil;
+import com.dominik.todolist.service.TaskService;
+import com.dominik.todolist.service.auth.AuthenticatedUserService;
+import com.dominik.todolist.web.AdaptiveConcurrencyLimiter;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC API on its own port next to the servlet container. gRPC calls do not pass the
+ * servlet filters, so authentication and the request deadline are applied by {@link JwtServerInterceptor},
+ * and load shedding, when enabled, by {@link ConcurrencyLimitServerInterceptor}.
+ * Enable with {@code app.grpc.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.grpc", name = "enabled", havingValue = "true")
+public class GrpcServerConfig {
+
+    /**
+     * Runs call handlers and change pushes. Handlers block on the database, so they get virtual
+     * threads when those are enabled, like the servlet container does. Otherwise the pool is
+     * bounded like the servlet container's, and calls beyond it wait in a queue.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService grpcExecutor(Environment environment, GrpcProperties properties) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-", 0).factory());
+        }
+        final var executor = new ThreadPoolExecutor(properties.maxThreads(), properties.maxThreads(),
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new CustomizableThreadFactory("grpc-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean
+    public TaskGrpcService taskGrpcService(TaskService taskService,
+                                           AuthenticatedUserService authenticatedUserService,
+                                           Validator validator,
+                                           ExecutorService grpcExecutor,
+                                           TaskChangesProperties changesProperties) {
+        return new TaskGrpcService(taskService, authenticatedUserService, validator, grpcExecutor,
+                changesProperties.safetyLagMs());
+    }
+
+    @Bean
+    public GrpcServerLifecycle grpcServer(GrpcProperties properties,
+                                          TaskGrpcService taskGrpcService,
+                                          JwtUtil jwtUtil,
+                                          UserDetailsService userDetailsService,
+                                          ExecutorService grpcExecutor,
+                                          ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter) {
+        // The last interceptor runs first: calls are shed before the JWT check loads the user.
+        final List<ServerInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(new JwtServerInterceptor(jwtUtil, userDetailsService));
+        concurrencyLimiter.ifAvailable(limiter -> interceptors.add(new ConcurrencyLimitServerInterceptor(limiter)));
+
+        final var server = NettyServerBuilder.forPort(properties.port())
+                .executor(grpcExecutor)
+                .addService(ServerInterceptors.intercept(taskGrpcService, interceptors))
+                .build();
+        return new GrpcServerLifecycle(server, properties.shutdownGracePeriodSeconds());
+    }
+}
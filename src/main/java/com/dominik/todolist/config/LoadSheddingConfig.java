@@ -0,0 +1,65 @@
+package com.dominik.todolist.config;
+
+import com.dominik.todolist.web.AdaptiveConcurrencyLimiter;
+import com.dominik.todolist.web.ConcurrencyLimitFilter;
+import com.dominik.todolist.web.RequestPriority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+
+/**
+ * Creates the adaptive concurrency limit that {@link SecurityConfig} places in front of
+ * {@code JwtAuthFilter}. Enable with {@code app.load-shedding.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.load-shedding", name = "enabled", havingValue = "true")
+public class LoadSheddingConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter concurrencyLimiter(LoadSheddingProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+                                                         LoadSheddingProperties properties) {
+        return new ConcurrencyLimitFilter(limiter, properties.retryAfterSeconds());
+    }
+
+    /**
+     * Keeps Boot from also registering the filter with the servlet container; it only runs
+     * inside the security filter chain.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            ConcurrencyLimitFilter filter) {
+        final var registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(AdaptiveConcurrencyLimiter limiter) {
+        return registry -> {
+            Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive limit on concurrent requests")
+                    .register(registry);
+            Gauge.builder("http.server.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Requests currently admitted by the concurrency limit")
+                    .register(registry);
+            for (RequestPriority priority : RequestPriority.values()) {
+                FunctionCounter.builder("http.server.concurrency.rejected", limiter,
+                                l -> l.getRejectedCount(priority))
+                        .description("Requests rejected with 503 because the concurrency limit was reached")
+                        .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the adaptive concurrency limit in front of the API.
+ *
+ * @param latencyThresholdMs A request slower than this counts as a sign of overload and shrinks the limit.
+ * @param backoffRatio       Factor the limit is multiplied by on overload.
+ * @param retryAfterSeconds  Value of the {@code Retry-After} header on rejected requests.
+ */
+@ConfigurationProperties(prefix = "app.load-shedding")
+@Validated
+public record LoadSheddingProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @Min(1)
+        @DefaultValue("50")
+        int initialLimit,
+
+        @Min(1)
+        @DefaultValue("10")
+        int minLimit,
+
+        @Min(1)
+        @DefaultValue("400")
+        int maxLimit,
+
+        @Min(1)
+        @DefaultValue("500")
+        long latencyThresholdMs,
+
+        @DecimalMin("0.5")
+        @DecimalMax("0.99")
+        @DefaultValue("0.9")
+        double backoffRatio,
+
+        @Min(1)
+        @DefaultValue("1")
+        int retryAfterSeconds
+) {
+
+}
@@ -0,0 +1,106 @@
+package com.dominik.todolist.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import com.dominik.todolist.logging.CountingAsyncAppender;
+import com.dominik.todolist.logging.RateLimitingTurboFilter;
+import com.dominik.todolist.service.outbox.OutboxDispatcher;
+import com.dominik.todolist.service.stream.TaskChangeStreamService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Iterator;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder outboxMetrics(OutboxDispatcher outboxDispatcher) {
+        return registry -> {
+            FunctionCounter.builder("outbox.delivered", outboxDispatcher, OutboxDispatcher::getDeliveredCount)
+                    .description("Outbox events delivered to their handlers")
+                    .register(registry);
+            FunctionCounter.builder("outbox.failed", outboxDispatcher, OutboxDispatcher::getFailedCount)
+                    .description("Outbox delivery attempts that failed")
+                    .register(registry);
+            Gauge.builder("outbox.pending", outboxDispatcher, OutboxDispatcher::getPendingCount)
+                    .description("Outbox events waiting for delivery")
+                    .register(registry);
+            Gauge.builder("outbox.oldest.pending.age", outboxDispatcher,
+                            dispatcher -> dispatcher.getOldestPendingAge().toMillis())
+                    .description("Age of the oldest undelivered outbox event")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("outbox.delivery.lag", outboxDispatcher,
+                            dispatcher -> dispatcher.getLastDeliveryLag().toMillis())
+                    .description("Time between writing and delivering the most recently delivered event")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder taskStreamMetrics(TaskChangeStreamService taskChangeStreamService) {
+        return registry -> {
+            Gauge.builder("task.stream.connections", taskChangeStreamService, TaskChangeStreamService::getOpenConnectionCount)
+                    .description("Open task change streams")
+                    .register(registry);
+            FunctionCounter.builder("task.stream.evictions", taskChangeStreamService,
+                            TaskChangeStreamService::getEvictedConnectionCount)
+                    .description("Task change streams closed because the client fell behind, stopped reading or the connection limit was reached")
+                    .register(registry);
+            FunctionCounter.builder("task.stream.closed", taskChangeStreamService,
+                            TaskChangeStreamService::getClosedConnectionCount)
+                    .description("Task change streams ended by the client or by the connection timeout")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Reports events thrown away by the asynchronous log appenders and by sampling. Looked up from
+     * the Logback context, so nothing is registered when a different logging backend is in use.
+     */
+    @Bean
+    public MeterBinder loggingMetrics() {
+        return registry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+                return;
+            }
+            final Iterator<Appender<ILoggingEvent>> appenders =
+                    loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof CountingAsyncAppender appender) {
+                    final Tags tags = Tags.of("appender", appender.getName());
+                    FunctionCounter.builder("logging.events.dropped", appender, CountingAsyncAppender::getDiscardedCount)
+                            .description("Log events thrown away by the asynchronous appender instead of being written")
+                            .tags(tags.and("reason", "discarding_threshold"))
+                            .register(registry);
+                    FunctionCounter.builder("logging.events.dropped", appender, CountingAsyncAppender::getDroppedCount)
+                            .description("Log events thrown away by the asynchronous appender instead of being written")
+                            .tags(tags.and("reason", "queue_full"))
+                            .register(registry);
+                    Gauge.builder("logging.queue.size", appender, CountingAsyncAppender::getNumberOfElementsInQueue)
+                            .description("Log events waiting to be written")
+                            .tags(tags)
+                            .register(registry);
+                }
+            }
+            for (TurboFilter filter : loggerContext.getTurboFilterList()) {
+                if (filter instanceof RateLimitingTurboFilter sampler) {
+                    FunctionCounter.builder("logging.events.sampled", sampler, RateLimitingTurboFilter::getSuppressedCount)
+                            .description("Log events suppressed by per-logger rate limiting")
+                            .tag("logger_prefix", sampler.getLoggerPrefix())
+                            .register(registry);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.dominik.todolist.config;
+
+import com.dominik.todolist.event.TaskChangedEvent;
+import com.dominik.todolist.grpc.v1.ChangeBatch;
+import com.dominik.todolist.grpc.v1.CreateTaskRequest;
+import com.dominik.todolist.grpc.v1.DeleteTaskRequest;
+import com.dominik.todolist.grpc.v1.GetTaskRequest;
+import com.dominik.todolist.grpc.v1.ListTasksRequest;
+import com.dominik.todolist.grpc.v1.RestoreTaskRequest;
+import com.dominik.todolist.grpc.v1.SyncRequest;
+import com.dominik.todolist.grpc.v1.TaskChange;
+import com.dominik.todolist.grpc.v1.UpdateTaskRequest;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.model.Task;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reachability metadata for a GraalVM native image that Spring AOT cannot derive from the bean definitions.
+ * Lombok builders are ordinary generated code and need no hints of their own.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * JJWT's API module instantiates its implementation classes by name, so they are invisible to the
+     * native-image static analysis.
+     */
+    private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_IMPLEMENTATIONS) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.Serializer");
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.Deserializer");
+
+        // Hibernate instantiates entities and writes their fields reflectively.
+        for (Class<?> entity : List.of(Task.class, AppUser.class)) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+
+        // Spring AOT derives this from @EnableConfigurationProperties too; kept here should that registration move.
+        BindableRuntimeHintsRegistrar.forTypes(TaskCleanupProperties.class).registerHints(hints, classLoader);
+
+        // Serialized with Jackson outside any controller signature: outbox payloads and server-sent events.
+        bindingRegistrar.registerReflectionHints(hints.reflection(), TaskChangedEvent.class);
+
+        // Protobuf resolves message accessors reflectively for toString() and status details.
+        for (Class<?> message : List.of(
+                com.dominik.todolist.grpc.v1.Task.class, CreateTaskRequest.class, GetTaskRequest.class,
+                UpdateTaskRequest.class, DeleteTaskRequest.class, RestoreTaskRequest.class,
+                ListTasksRequest.class, SyncRequest.class, TaskChange.class, ChangeBatch.class)) {
+            hints.reflection().registerType(message, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerType(TypeReference.of(message.getName() + "$Builder"),
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "app.outbox")
+@Validated
+public record OutboxProperties(
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(10)
+        @DefaultValue("1000")
+        long pollIntervalMs,
+
+        @Min(1)
+        @DefaultValue("100")
+        int batchSize,
+
+        @Min(1)
+        @DefaultValue("1000")
+        long initialBackoffMs,
+
+        @Min(1)
+        @DefaultValue("300000")
+        long maxBackoffMs
+) {
+
+}
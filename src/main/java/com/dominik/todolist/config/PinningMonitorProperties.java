@@ -0,0 +1,23 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "app.diagnostics.pinning")
+@Validated
+public record PinningMonitorProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @Min(1)
+        @DefaultValue("20")
+        long thresholdMs,
+
+        @Min(1)
+        @DefaultValue("8")
+        int stackDepth
+) {
+
+}
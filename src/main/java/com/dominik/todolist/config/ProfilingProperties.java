@@ -0,0 +1,36 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * Settings for the JFR recordings managed under the {@code profiling} profile.
+ *
+ * @param adminEmails             Users allowed to start and download recordings and to scrape metrics.
+ * @param continuous              Whether to keep a low-overhead recording running from startup.
+ * @param continuousMaxAgeMinutes How much history the continuous recording keeps on disk.
+ * @param maxRecordingSeconds     Upper bound on the duration of an on-demand recording.
+ */
+@ConfigurationProperties(prefix = "app.diagnostics.profiling")
+@Validated
+public record ProfilingProperties(
+        @DefaultValue
+        List<String> adminEmails,
+
+        @DefaultValue("true")
+        boolean continuous,
+
+        @Min(1)
+        @DefaultValue("30")
+        int continuousMaxAgeMinutes,
+
+        @Min(1)
+        @DefaultValue("600")
+        int maxRecordingSeconds
+) {
+
+}
@@ -0,0 +1,58 @@
+package com.dominik.todolist.config;
+
+import com.dominik.todolist.datasource.DeadlineAwareDataSource;
+import com.dominik.todolist.datasource.DeadlineAwareJpaTransactionManager;
+import com.dominik.todolist.web.RequestDeadlineFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Carries each request's deadline from {@link RequestDeadlineFilter} down to transaction and
+ * JDBC statement timeouts. Disable with {@code app.request-deadline.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.request-deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestDeadlineConfig {
+
+    /**
+     * Runs before the security filter chain, so the JWT filter's user lookup is bounded too, and a
+     * lookup that runs out of time still ends in a 504.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(RequestDeadlineProperties properties) {
+        final var registration = new FilterRegistrationBean<>(new RequestDeadlineFilter(properties));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        final var transactionManager = new DeadlineAwareJpaTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public static BeanPostProcessor deadlineAwareDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof DeadlineAwareDataSource) {
+                    return bean;
+                }
+                return new DeadlineAwareDataSource(dataSource);
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.Map;
+
+/**
+ * Settings for request deadlines.
+ *
+ * @param headerName         Request header holding the client's timeout in milliseconds.
+ * @param endpointTimeoutsMs Defaults for requests without the header, keyed by Ant-style path pattern,
+ *                           e.g. {@code app.request-deadline.endpoint-timeouts-ms[/api/auth/**]=5000}.
+ * @param maxTimeoutMs       Upper bound on any deadline, including one requested by the client.
+ */
+@ConfigurationProperties(prefix = "app.request-deadline")
+@Validated
+public record RequestDeadlineProperties(
+        @DefaultValue("true")
+        boolean enabled,
+
+        @NotBlank
+        @DefaultValue("X-Request-Timeout")
+        String headerName,
+
+        @Min(1)
+        @DefaultValue("10000")
+        long defaultTimeoutMs,
+
+        @DefaultValue
+        Map<String, Long> endpointTimeoutsMs,
+
+        @Min(1)
+        @DefaultValue("30000")
+        long maxTimeoutMs
+) {
+
+}
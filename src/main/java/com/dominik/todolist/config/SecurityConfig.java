@@ -1,17 +1,25 @@
 package com.dominik.todolist.config;
 
 import  com.dominik.todolist.security.JwtAuthFilter;
+import com.dominik.todolist.web.ConcurrencyLimitFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.function.Supplier;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -20,14 +28,20 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JwtAuthFilter jwtAuthFilter;
+    private final ProfilingProperties profilingProperties;
+    private final ObjectProvider<ConcurrencyLimitFilter> concurrencyLimitFilter;
 
     @Autowired
     public SecurityConfig(
             AuthenticationConfiguration authenticationConfiguration,
-            JwtAuthFilter jwtAuthFilter
+            JwtAuthFilter jwtAuthFilter,
+            ProfilingProperties profilingProperties,
+            ObjectProvider<ConcurrencyLimitFilter> concurrencyLimitFilter
     ) {
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtAuthFilter = jwtAuthFilter;
+        this.profilingProperties = profilingProperties;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
     }
 
     @Bean
@@ -37,15 +51,31 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        // Async dispatches only write the output of an already authorized SSE stream.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
                         .requestMatchers("/api/auth/register", "/api/auth/login")
                         .permitAll()
+                        .requestMatchers("/actuator/health/**")
+                        .permitAll()
+                        // Anyone can register, so metrics, which reveal endpoints, users' activity and pool
+                        // sizes, are limited to the admins just like recordings.
+                        .requestMatchers("/actuator/prometheus", "/admin/profiling/**")
+                        .access(this::isAdmin)
                         .anyRequest()
                         .authenticated()
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+        // Shed load before the JWT filter loads the user, which is the first database access of a request.
+        concurrencyLimitFilter.ifAvailable(filter -> http.addFilterBefore(filter, JwtAuthFilter.class));
         return http.build();
     }
 
+    private AuthorizationDecision isAdmin(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(authentication.get().isAuthenticated()
+                && profilingProperties.adminEmails().contains(authentication.get().getName()));
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
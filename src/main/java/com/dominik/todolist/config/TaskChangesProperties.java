@@ -0,0 +1,22 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * @param safetyLagMs How old a change must be before the change feed returns it. {@code updated_at} is
+ *                    stamped before the transaction commits, so a slower transaction can commit a change
+ *                    that sorts before a watermark a client already holds. Set this above the longest
+ *                    write transaction.
+ */
+@ConfigurationProperties(prefix = "app.task.changes")
+@Validated
+public record TaskChangesProperties(
+        @Min(0)
+        @DefaultValue("5000")
+        long safetyLagMs
+) {
+
+}
@@ -1,16 +1,25 @@
 package com.dominik.todolist.config;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
+/**
+ * @param purgeBatchSize How many task IDs each purge statement binds in its {@code IN} list.
+ */
 @ConfigurationProperties(prefix = "app.task.cleanup")
 @Validated
 public record TaskCleanupProperties(
         @Min(1)
         @DefaultValue("30")
-        int retentionPeriodDays
+        int retentionPeriodDays,
+
+        @Min(1)
+        @Max(1000)
+        @DefaultValue("500")
+        int purgeBatchSize
 ) {
 
 }
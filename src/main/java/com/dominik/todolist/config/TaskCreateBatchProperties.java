@@ -0,0 +1,30 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * @param enabled      Routes {@code POST /api/tasks} through the batcher instead of one transaction per task.
+ * @param maxBatchSize A batch is flushed as soon as it holds this many tasks.
+ * @param windowMs     How long the first task of a batch waits for others to join it.
+ */
+@ConfigurationProperties(prefix = "app.task.create-batch")
+@Validated
+public record TaskCreateBatchProperties(
+        @DefaultValue("false")
+        boolean enabled,
+
+        @Min(1)
+        @Max(1000)
+        @DefaultValue("64")
+        int maxBatchSize,
+
+        @Min(0)
+        @DefaultValue("2")
+        long windowMs
+) {
+
+}
@@ -0,0 +1,41 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * @param maxTransactionMs The longest a transaction may take to commit a task after its insert. IDs are
+ *                         assigned at insert time but become visible at commit time, so an ID is only
+ *                         ruled out once a scan started this long after a higher ID was seen.
+ * @param assumeSoleWriter Treat IDs above the scanned range as absent unless this instance created
+ *                         them. Only safe when a single instance writes to the tasks table.
+ * @param maxTrackedId The highest ID kept in the bitmap, which takes one bit per ID up to the highest
+ *                     one tracked: about 12 MB at the default. Higher IDs are always looked up.
+ */
+@ConfigurationProperties(prefix = "app.task.id-filter")
+@Validated
+public record TaskIdFilterProperties(
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(1000)
+        @DefaultValue("30000")
+        long refreshIntervalMs,
+
+        @Min(0)
+        @DefaultValue("60000")
+        long maxTransactionMs,
+
+        @DefaultValue("false")
+        boolean assumeSoleWriter,
+
+        @Min(1)
+        @Max(Integer.MAX_VALUE)
+        @DefaultValue("100000000")
+        long maxTrackedId
+) {
+
+}
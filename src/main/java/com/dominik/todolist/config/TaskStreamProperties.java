@@ -0,0 +1,36 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "app.task.stream")
+@Validated
+public record TaskStreamProperties(
+        @Min(1)
+        @DefaultValue("64")
+        int bufferSize,
+
+        @Min(1000)
+        @DefaultValue("15000")
+        long heartbeatIntervalMs,
+
+        @Min(1000)
+        @DefaultValue("1800000")
+        long connectionTimeoutMs,
+
+        @Min(1)
+        @DefaultValue("5")
+        int maxConnectionsPerUser,
+
+        @Min(1)
+        @DefaultValue("4")
+        int senderThreads,
+
+        @Min(100)
+        @DefaultValue("10000")
+        long sendTimeoutMs
+) {
+
+}
@@ -0,0 +1,53 @@
+package com.dominik.todolist.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Adds a span per Spring Data repository call, so traces show which query a service method
+ * spent its time in. The filter, controller and service spans come from {@code @Observed} and
+ * the observation in {@code JwtAuthFilter}; JDBC statement spans come from datasource-micrometer.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        // Resolved on first use: post-processors are created before the registry exists.
+        final Supplier<ObservationRegistry> registry =
+                SingletonSupplier.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(observingInterceptor(
+                                    registry,
+                                    repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor observingInterceptor(Supplier<ObservationRegistry> registry, String repository) {
+        return invocation -> {
+            final String method = invocation.getMethod().getName();
+            return Observation.createNotStarted("data.repository", registry.get())
+                    .contextualName(repository + "#" + method)
+                    .lowCardinalityKeyValue("repository", repository)
+                    .lowCardinalityKeyValue("method", method)
+                    .observeChecked(invocation::proceed);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.dominik.todolist.config;
+
+import com.dominik.todolist.datasource.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's {@code dataSource} bean in a {@link ConcurrencyLimitingDataSource}.
+ * Enabled by the {@code virtual-threads} profile.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.concurrency", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadConfig.class);
+    private static final int DEFAULT_MAX_CONCURRENT = 10;
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+            ObjectProvider<DataSourceConcurrencyProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+
+                final var concurrency = properties.getObject();
+                final int maxConcurrent = concurrency.maxConcurrent() > 0
+                        ? concurrency.maxConcurrent()
+                        : poolSize(dataSource);
+                LOGGER.info("Limiting concurrent database connections to {}.", maxConcurrent);
+                return new ConcurrencyLimitingDataSource(dataSource, maxConcurrent, concurrency.acquireTimeoutMs());
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        final var hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        return hikari != null ? hikari.getMaximumPoolSize() : DEFAULT_MAX_CONCURRENT;
+    }
+}
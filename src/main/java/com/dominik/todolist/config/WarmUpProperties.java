@@ -0,0 +1,35 @@
+package com.dominik.todolist.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * @param iterations     Rounds of token, list, get and serialization calls. Each round is a handful of
+ *                       invocations; C2 compiles a method after roughly 10,000 of them.
+ * @param tasks          Tasks created for the throwaway user, so list pages have items to map.
+ * @param timeoutSeconds Readiness is reported after this long even if rounds remain.
+ */
+@ConfigurationProperties(prefix = "app.warmup")
+@Validated
+public record WarmUpProperties(
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(1)
+        @DefaultValue("3000")
+        int iterations,
+
+        @Min(1)
+        @Max(100)
+        @DefaultValue("20")
+        int tasks,
+
+        @Min(1)
+        @DefaultValue("60")
+        int timeoutSeconds
+) {
+
+}
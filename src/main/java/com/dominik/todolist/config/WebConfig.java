@@ -1,5 +1,6 @@
 package com.dominik.todolist.config;
 
+import com.dominik.todolist.json.TaskJsonModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -19,4 +20,12 @@ public class WebConfig {
             }
         };
     }
+
+    /**
+     * Picked up by Spring Boot's Jackson auto-configuration and added to the application's ObjectMapper.
+     */
+    @Bean
+    public TaskJsonModule taskJsonModule() {
+        return new TaskJsonModule();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.dominik.todolist.controller;
+
+import com.dominik.todolist.diagnostics.JfrRecordingService;
+import com.dominik.todolist.dto.RecordingResponse;
+import com.dominik.todolist.exception.handler.ProblemDetailWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Starts, downloads and discards JFR recordings. Only registered under the {@code profiling}
+ * profile; access is further restricted to the configured admin emails in {@code SecurityConfig}.
+ */
+@RestController
+@RequestMapping("/admin/profiling/recordings")
+@Profile("profiling")
+public class ProfilingController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    public ProfilingController(JfrRecordingService jfrRecordingService) {
+        this.jfrRecordingService = jfrRecordingService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RecordingResponse>> listRecordings() {
+        return ResponseEntity.ok(jfrRecordingService.listRecordings());
+    }
+
+    @PostMapping
+    public ResponseEntity<?> startRecording(
+            @RequestParam(defaultValue = "profile") String settings,
+            @RequestParam(defaultValue = "60") long durationSeconds,
+            HttpServletRequest request) {
+        try {
+            RecordingResponse recording = jfrRecordingService.startRecording(settings, durationSeconds);
+            return ResponseEntity.status(HttpStatus.CREATED).body(recording);
+        } catch (IllegalArgumentException e) {
+            return ProblemDetailWriter.write(HttpStatus.BAD_REQUEST, e.getMessage(), request.getRequestURI());
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<StreamingResponseBody> dumpRecording(@PathVariable long id) {
+        return jfrRecordingService.dumpRecording(id)
+                .map(file -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(file.getFileName().toString())
+                                .build()
+                                .toString())
+                        .body(streamAndDelete(file)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> closeRecording(@PathVariable long id) {
+        return jfrRecordingService.closeRecording(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private static StreamingResponseBody streamAndDelete(Path file) {
+        return outputStream -> {
+            try {
+                Files.copy(file, outputStream);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+    }
+}
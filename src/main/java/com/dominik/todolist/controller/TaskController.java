@@ -1,47 +1,82 @@
 package com.dominik.todolist.controller;
 
 import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.dto.TaskChangesResponse;
+import com.dominik.todolist.dto.TaskField;
+import com.dominik.todolist.dto.TaskListResponse;
 import com.dominik.todolist.dto.TaskRequest;
 import com.dominik.todolist.dto.TaskResponse;
 import com.dominik.todolist.model.TaskStatus;
+import com.dominik.todolist.service.TaskCreateBatcher;
 import com.dominik.todolist.service.TaskService;
+import com.dominik.todolist.service.stream.TaskChangeStreamService;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/tasks")
+@Observed(name = "task.controller")
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskChangeStreamService taskChangeStreamService;
+    private final TaskCreateBatcher taskCreateBatcher;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          TaskChangeStreamService taskChangeStreamService,
+                          ObjectProvider<TaskCreateBatcher> taskCreateBatcher) {
         this.taskService = taskService;
+        this.taskChangeStreamService = taskChangeStreamService;
+        // Only present with app.task.create-batch.enabled=true.
+        this.taskCreateBatcher = taskCreateBatcher.getIfAvailable();
     }
 
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody CreateTaskRequest taskRequest) {
-        TaskResponse createdTaskResponse = taskService.createTask(taskRequest);
+        TaskResponse createdTaskResponse = taskCreateBatcher != null
+                ? taskCreateBatcher.createTask(taskRequest)
+                : taskService.createTask(taskRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTaskResponse);
     }
 
     @GetMapping
-    public ResponseEntity<Page<TaskResponse>> getCurrentUserTasks(
+    public ResponseEntity<TaskListResponse> getCurrentUserTasks(
             @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "false") boolean preview,
+            @RequestParam(required = false) String fields,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
             Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getAllTasksForCurrentUser(status, pageable);
+        TaskListResponse tasks = taskService.getAllTasksForCurrentUser(status, pageable, preview, TaskField.parse(fields));
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int limit) {
+        TaskChangesResponse changes = taskService.getChangesForCurrentUser(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges() {
+        return taskChangeStreamService.subscribe();
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        TaskResponse taskResponse = taskService.getTaskByIdAndAppUser(id);
+    public ResponseEntity<TaskResponse> getTaskById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields) {
+        TaskResponse taskResponse = taskService.getTaskByIdAndAppUser(id, TaskField.parse(fields));
         return ResponseEntity.ok(taskResponse);
     }
 
@@ -0,0 +1,84 @@
+package com.dominik.todolist.datasource;
+
+import com.dominik.todolist.web.RequestDeadline;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+/**
+ * Bounds every statement created on behalf of a request by the time left until its
+ * {@link RequestDeadline}, using the JDBC query timeout so the driver cancels the statement on
+ * the server. Once the deadline has passed, no connection is handed out and no statement is
+ * created. Threads without a deadline, such as scheduled jobs, are not affected.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+    public DeadlineAwareDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        checkDeadline();
+        return deadlineAware(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        checkDeadline();
+        return deadlineAware(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection deadlineAware(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                DeadlineAwareDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        default -> {
+                            final Object result;
+                            try {
+                                result = method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                            if (result instanceof Statement statement) {
+                                applyDeadline(statement);
+                            }
+                            return result;
+                        }
+                    }
+                });
+    }
+
+    private static void applyDeadline(Statement statement) throws SQLException {
+        final var remainingSeconds = RequestDeadline.remainingSeconds();
+        if (remainingSeconds.isEmpty()) {
+            return;
+        }
+        if (remainingSeconds.getAsLong() <= 0) {
+            statement.close();
+            throw new SQLTimeoutException("Request deadline exceeded before the statement was executed");
+        }
+        statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, remainingSeconds.getAsLong()));
+    }
+
+    private static void checkDeadline() throws SQLTimeoutException {
+        final var remaining = RequestDeadline.remainingNanos();
+        if (remaining.isPresent() && remaining.getAsLong() <= 0) {
+            throw new SQLTimeoutException("Request deadline exceeded before a connection was obtained");
+        }
+    }
+}
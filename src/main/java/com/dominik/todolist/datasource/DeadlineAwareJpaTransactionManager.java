@@ -0,0 +1,29 @@
+package com.dominik.todolist.datasource;
+
+import com.dominik.todolist.web.RequestDeadline;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * Shortens the timeout of every transaction started while serving a request to the time left
+ * until the request's deadline. Spring applies the transaction timeout to the queries it issues,
+ * and a transaction that would start after the deadline is refused outright.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        final int configured = super.determineTimeout(definition);
+        final var remainingSeconds = RequestDeadline.remainingSeconds();
+        if (remainingSeconds.isEmpty()) {
+            return configured;
+        }
+        if (remainingSeconds.getAsLong() <= 0) {
+            throw new TransactionTimedOutException("Request deadline exceeded before the transaction started");
+        }
+
+        final int remaining = (int) Math.min(Integer.MAX_VALUE, remainingSeconds.getAsLong());
+        return configured == TransactionDefinition.TIMEOUT_DEFAULT ? remaining : Math.min(configured, remaining);
+    }
+}
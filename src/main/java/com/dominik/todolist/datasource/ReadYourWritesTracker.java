@@ -0,0 +1,118 @@
+package com.dominik.todolist.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Remembers who committed a write recently, so their reads can stay on the primary until the
+ * replicas have caught up. A write pins the rest of the current request and, for an authenticated
+ * user, every request of that user within the configured window. The window is tracked per instance.
+ */
+public class ReadYourWritesTracker {
+
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WROTE";
+    private static final int PURGE_EVERY_N_WRITES = 1024;
+
+    private final long windowNanos;
+    private final ConcurrentMap<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger writesSincePurge = new AtomicInteger();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Marks the current user and request as having written once the current transaction commits.
+     */
+    public void recordWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        final String user = currentUser();
+        final RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (user == null && request == null) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(request, user);
+            }
+        });
+    }
+
+    /**
+     * Marks the current user and request as having written, for writes another thread has already
+     * committed on their behalf.
+     */
+    public void recordCommittedWrite() {
+        recordWrite(RequestContextHolder.getRequestAttributes(), currentUser());
+    }
+
+    private void recordWrite(RequestAttributes request, String user) {
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        if (user != null) {
+            recordWrite(user);
+        }
+    }
+
+    public void recordWrite(String user) {
+        lastWriteByUser.put(user, System.nanoTime());
+        if (writesSincePurge.incrementAndGet() >= PURGE_EVERY_N_WRITES) {
+            writesSincePurge.set(0);
+            purgeExpired();
+        }
+    }
+
+    /**
+     * @return True if the current request or user wrote recently enough to require the primary.
+     */
+    public boolean isPinnedToPrimary() {
+        final RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+
+        final String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+
+        final Long lastWrite = lastWriteByUser.get(user);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite > windowNanos) {
+            lastWriteByUser.remove(user, lastWrite);
+            return false;
+        }
+        return true;
+    }
+
+    void purgeExpired() {
+        final long now = System.nanoTime();
+        lastWriteByUser.entrySet().removeIf(entry -> now - entry.getValue() > windowNanos);
+    }
+
+    private static String currentUser() {
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,55 @@
+package com.dominik.todolist.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A replica connection pool together with the outcome of its last health check.
+ */
+public class ReplicaPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    void checkHealth(int timeoutSeconds) {
+        boolean valid;
+        try (Connection connection = dataSource.getConnection()) {
+            valid = connection.isValid(timeoutSeconds);
+        } catch (SQLException e) {
+            valid = false;
+        }
+
+        if (valid != healthy) {
+            if (valid) {
+                LOGGER.info("Replica {} is healthy again and receives read-only traffic.", name);
+            } else {
+                LOGGER.warn("Replica {} failed its health check; routing its reads to other replicas.", name);
+            }
+        }
+        healthy = valid;
+    }
+}
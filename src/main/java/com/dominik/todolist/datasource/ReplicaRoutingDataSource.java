@@ -0,0 +1,49 @@
+package com.dominik.todolist.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * because the read-only flag of a transaction is only known after the transaction manager has
+ * asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY_KEY = "primary";
+
+    private final ReplicaSet replicaSet;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaSet replicaSet, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaSet = replicaSet;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        final Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        replicaSet.getReplicas().forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.recordWriteAfterCommit();
+            return PRIMARY_KEY;
+        }
+
+        if (readYourWritesTracker.isPinnedToPrimary()) {
+            return PRIMARY_KEY;
+        }
+
+        return replicaSet.nextHealthy()
+                .map(ReplicaPool::getName)
+                .orElse(PRIMARY_KEY);
+    }
+}
@@ -0,0 +1,56 @@
+package com.dominik.todolist.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The replicas eligible for read-only transactions. Picks healthy replicas round-robin.
+ */
+public class ReplicaSet implements Closeable {
+
+    private final List<ReplicaPool> replicas;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    public ReplicaSet(List<ReplicaPool> replicas, int healthCheckTimeoutSeconds) {
+        this.replicas = List.copyOf(replicas);
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+    }
+
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @return The next healthy replica, or empty if every replica is down.
+     */
+    public Optional<ReplicaPool> nextHealthy() {
+        final int size = replicas.size();
+        for (int i = 0; i < size; i++) {
+            final var replica = replicas.get(Math.floorMod(nextIndex.getAndIncrement(), size));
+            if (replica.isHealthy()) {
+                return Optional.of(replica);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        replicas.forEach(replica -> replica.checkHealth(healthCheckTimeoutSeconds));
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (ReplicaPool replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
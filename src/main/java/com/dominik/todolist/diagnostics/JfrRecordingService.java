@@ -0,0 +1,143 @@
+package com.dominik.todolist.diagnostics;
+
+import com.dominik.todolist.config.ProfilingProperties;
+import com.dominik.todolist.dto.RecordingResponse;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns the JFR recordings started by this application: an optional continuous recording using
+ * the low-overhead {@code default} settings, and time-boxed on-demand recordings started through
+ * the admin endpoint, typically with the more detailed {@code profile} settings.
+ */
+@Component
+@Profile("profiling")
+public class JfrRecordingService implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JfrRecordingService.class);
+    static final String CONTINUOUS_RECORDING_NAME = "continuous";
+
+    private final ProfilingProperties properties;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    public JfrRecordingService(ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        if (properties.continuous()) {
+            final var recording = new Recording(loadConfiguration("default"));
+            recording.setName(CONTINUOUS_RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(Duration.ofMinutes(properties.continuousMaxAgeMinutes()));
+            recording.start();
+            recordings.put(recording.getId(), recording);
+            LOGGER.info("Started continuous JFR recording keeping {} minutes of history.",
+                    properties.continuousMaxAgeMinutes());
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts a recording that stops by itself after the given duration.
+     *
+     * @param settings        The name of a JDK settings file, {@code default} or {@code profile}.
+     * @param durationSeconds Requested duration, capped at the configured maximum.
+     * @throws IllegalArgumentException if no settings with that name exist.
+     */
+    public RecordingResponse startRecording(String settings, long durationSeconds) {
+        final var recording = new Recording(loadConfiguration(settings));
+        recording.setName(settings + "-" + System.currentTimeMillis());
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofSeconds(Math.clamp(durationSeconds, 1, properties.maxRecordingSeconds())));
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        LOGGER.info("Started JFR recording {} with '{}' settings for {}.",
+                recording.getId(), settings, recording.getDuration());
+        return toResponse(recording);
+    }
+
+    public List<RecordingResponse> listRecordings() {
+        return recordings.values().stream()
+                .sorted(Comparator.comparingLong(Recording::getId))
+                .map(JfrRecordingService::toResponse)
+                .toList();
+    }
+
+    /**
+     * Writes what the recording has captured so far to a temporary file. The caller deletes it.
+     *
+     * @return The file, or empty if no recording with that ID is owned by this service.
+     */
+    public Optional<Path> dumpRecording(long id) {
+        final var recording = recordings.get(id);
+        if (recording == null) {
+            return Optional.empty();
+        }
+        try {
+            final Path file = Files.createTempFile("todo-list-" + recording.getName() + "-", ".jfr");
+            recording.dump(file);
+            return Optional.of(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump JFR recording " + id, e);
+        }
+    }
+
+    public boolean closeRecording(long id) {
+        final var recording = recordings.remove(id);
+        if (recording == null) {
+            return false;
+        }
+        recording.close();
+        return true;
+    }
+
+    private static Configuration loadConfiguration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings '" + settings + "'", e);
+        }
+    }
+
+    private static RecordingResponse toResponse(Recording recording) {
+        return new RecordingResponse(
+                recording.getId(),
+                recording.getName(),
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getDuration() == null ? null : recording.getDuration().toSeconds()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.dominik.todolist.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.dominik.todolist.JwtVerification")
+@Label("JWT Verification")
+@Description("Parsing a JWT and verifying its signature")
+@Category({"Todo List API", "Security"})
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+
+    @Label("Failure")
+    @Description("Simple name of the exception that rejected the token")
+    public String failure;
+}
@@ -0,0 +1,17 @@
+package com.dominik.todolist.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.dominik.todolist.PasswordHash")
+@Label("Password Hash")
+@Category({"Todo List API", "Security"})
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+}
@@ -0,0 +1,54 @@
+package com.dominik.todolist.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Function;
+
+/**
+ * One call into {@code TaskService}. Task and user IDs are 0 when the operation does not
+ * concern a single task or failed before the user was resolved.
+ */
+@Name("com.dominik.todolist.TaskOperation")
+@Label("Task Operation")
+@Description("A task service operation, including its queries and event publication")
+@Category({"Todo List API", "Tasks"})
+@StackTrace(false)
+public class TaskOperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Task ID")
+    public long taskId;
+
+    @Label("User ID")
+    public long userId;
+
+    public static TaskOperationEvent begin(String operation, Long taskId) {
+        final var event = new TaskOperationEvent();
+        event.operation = operation;
+        if (taskId != null) {
+            event.taskId = taskId;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Runs one operation inside an event and commits it however the operation ends. The operation
+     * receives the event to fill in the user and task IDs once it knows them.
+     */
+    public static <T> T record(String operation, Long taskId, Function<TaskOperationEvent, T> body) {
+        final var event = begin(operation, taskId);
+        try {
+            return body.apply(event);
+        } finally {
+            event.commit();
+        }
+    }
+}
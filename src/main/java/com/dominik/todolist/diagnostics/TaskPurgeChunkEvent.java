@@ -0,0 +1,23 @@
+package com.dominik.todolist.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.dominik.todolist.TaskPurgeChunk")
+@Label("Task Purge Chunk")
+@Category({"Todo List API", "Tasks"})
+@StackTrace(false)
+public class TaskPurgeChunkEvent extends Event {
+
+    @Label("Chunk")
+    public int chunk;
+
+    @Label("Candidates")
+    public int candidates;
+
+    @Label("Purged")
+    public int purged;
+}
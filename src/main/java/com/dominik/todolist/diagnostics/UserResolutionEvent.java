@@ -0,0 +1,19 @@
+package com.dominik.todolist.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.dominik.todolist.UserResolution")
+@Label("User Resolution")
+@Description("Loading the authenticated user's entity from the database")
+@Category({"Todo List API", "Security"})
+@StackTrace(false)
+public class UserResolutionEvent extends Event {
+
+    @Label("User ID")
+    public long userId;
+}
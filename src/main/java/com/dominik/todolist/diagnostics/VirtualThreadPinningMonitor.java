@@ -0,0 +1,89 @@
+package com.dominik.todolist.diagnostics;
+
+import com.dominik.todolist.config.PinningMonitorProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} events from JFR and logs the stack of every distinct
+ * place where a virtual thread blocked while pinned to its carrier, typically inside a
+ * {@code synchronized} block in a driver or library. Each stack is logged once; repeats are only counted.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.diagnostics.pinning", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final PinningMonitorProperties properties;
+    private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+    private final AtomicLong pinnedEvents = new AtomicLong();
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(PinningMonitorProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        final var stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(properties.thresholdMs()))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        LOGGER.info("Reporting virtual threads pinned for longer than {} ms.", properties.thresholdMs());
+    }
+
+    @Override
+    public void stop() {
+        final var stream = recordingStream;
+        if (stream != null) {
+            stream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    public long getPinnedEventCount() {
+        return pinnedEvents.get();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        if (event.getStackTrace() == null) {
+            return;
+        }
+
+        final var stack = event.getStackTrace().getFrames().stream()
+                .limit(properties.stackDepth())
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+        if (reportedStacks.add(stack)) {
+            LOGGER.warn("Virtual thread pinned for {} ms:\n{}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        final var method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+    }
+}
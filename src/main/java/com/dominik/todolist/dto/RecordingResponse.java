@@ -0,0 +1,13 @@
+package com.dominik.todolist.dto;
+
+import java.time.Instant;
+
+public record RecordingResponse(
+        long id,
+        String name,
+        String state,
+        Instant startTime,
+        Long durationSeconds
+) {
+
+}
@@ -0,0 +1,15 @@
+package com.dominik.todolist.dto;
+
+import java.time.Instant;
+
+/**
+ * A single entry of the change feed. Soft-deleted tasks are returned as tombstones:
+ * {@code deleted} is true and {@code task} is null.
+ */
+public record TaskChangeResponse(
+        Long id,
+        boolean deleted,
+        Instant changedAt,
+        TaskResponse task
+) {
+}
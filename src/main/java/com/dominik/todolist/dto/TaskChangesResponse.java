@@ -0,0 +1,18 @@
+package com.dominik.todolist.dto;
+
+import java.util.List;
+
+/**
+ * @param changes       Changes after the requested watermark, oldest first.
+ * @param nextToken     Opaque watermark to pass as {@code since} on the next call.
+ * @param hasMore       True if more changes are waiting beyond this batch.
+ * @param resetRequired True if the requested watermark was older than the tombstone retention period;
+ *                      the client should discard its local copy and apply this feed from scratch.
+ */
+public record TaskChangesResponse(
+        List<TaskChangeResponse> changes,
+        String nextToken,
+        boolean hasMore,
+        boolean resetRequired
+) {
+}
@@ -0,0 +1,60 @@
+package com.dominik.todolist.dto;
+
+import com.dominik.todolist.exception.InvalidFieldsException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link TaskResponse} attributes a client can ask for with the {@code fields} request parameter.
+ * The id is always returned so the client can address the task.
+ */
+public enum TaskField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    USER_ID("userId"),
+    USER_EMAIL("userEmail");
+
+    private static final Map<String, TaskField> BY_JSON_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(TaskField::jsonName, Function.identity()));
+
+    private final String jsonName;
+
+    TaskField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a comma-separated list of JSON attribute names, e.g. {@code title,status}.
+     *
+     * @param fields The request parameter, or null if the client did not send one.
+     * @return The requested fields plus {@link #ID}, or an empty set if all fields should be returned.
+     * @throws InvalidFieldsException if a name does not match any attribute.
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.noneOf(TaskField.class);
+        }
+        final var parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            final var field = BY_JSON_NAME.get(name.strip());
+            if (field == null) {
+                throw InvalidFieldsException.unknownField(name.strip());
+            }
+            parsed.add(field);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,52 @@
+package com.dominik.todolist.dto;
+
+import com.dominik.todolist.model.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A page of the current user's tasks. The owner is stated once for the whole page instead of on
+ * every row, and paging is reduced to what a client needs to request the next page.
+ *
+ * @param owner   The user all tasks on this page belong to.
+ * @param content The tasks on this page.
+ * @param page    Position of this page within the full result.
+ */
+public record TaskListResponse(
+        Owner owner,
+        List<Item> content,
+        PageInfo page
+) {
+
+    public record Owner(
+            Long id,
+            String email
+    ) {
+    }
+
+    /**
+     * Fields left out with the {@code fields} parameter are null and not serialized.
+     *
+     * @param description The full description, or a shortened preview if one was requested.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(
+            Long id,
+            String title,
+            String description,
+            TaskStatus status,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+    }
+
+    public record PageInfo(
+            int number,
+            int size,
+            long totalElements,
+            int totalPages
+    ) {
+    }
+}
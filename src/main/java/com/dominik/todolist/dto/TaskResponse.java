@@ -1,11 +1,13 @@
 package com.dominik.todolist.dto;
 
 import com.dominik.todolist.model.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 
 import java.time.Instant;
 
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record TaskResponse(
         Long id,
         String title,
@@ -0,0 +1,8 @@
+package com.dominik.todolist.event;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    RESTORED
+}
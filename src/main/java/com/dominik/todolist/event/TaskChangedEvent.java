@@ -0,0 +1,22 @@
+package com.dominik.todolist.event;
+
+import com.dominik.todolist.dto.TaskResponse;
+
+/**
+ * Published by {@code TaskService} inside the transaction that changed a task.
+ * For {@link TaskChangeType#DELETED} the {@code task} is null, mirroring the tombstones of the change feed.
+ */
+public record TaskChangedEvent(
+        TaskChangeType type,
+        Long taskId,
+        Long userId,
+        TaskResponse task
+) {
+    public static TaskChangedEvent of(TaskChangeType type, TaskResponse task) {
+        return new TaskChangedEvent(type, task.id(), task.userId(), task);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId, Long userId) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, taskId, userId, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.dominik.todolist.exception;
+
+/**
+ * Base class for exceptions that report an expected outcome, such as a missing task, to the client.
+ * They are thrown far more often than real failures (scrapers probing random IDs, for example)
+ * and are always handled, so they skip stack trace capture and suppression.
+ */
+public abstract class DomainException extends RuntimeException {
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
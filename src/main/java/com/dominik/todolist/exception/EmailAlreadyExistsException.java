@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.CONFLICT)
-public class EmailAlreadyExistsException extends RuntimeException {
+public class EmailAlreadyExistsException extends DomainException {
     public EmailAlreadyExistsException(String message) {
         super(message);
     }
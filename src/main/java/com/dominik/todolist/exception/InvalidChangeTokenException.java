@@ -0,0 +1,15 @@
+package com.dominik.todolist.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidChangeTokenException extends DomainException {
+    private InvalidChangeTokenException(String message) {
+        super(message);
+    }
+
+    public static InvalidChangeTokenException malformed(String token) {
+        return new InvalidChangeTokenException("Change token is malformed: " + token);
+    }
+}
@@ -0,0 +1,15 @@
+package com.dominik.todolist.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFieldsException extends DomainException {
+    private InvalidFieldsException(String message) {
+        super(message);
+    }
+
+    public static InvalidFieldsException unknownField(String field) {
+        return new InvalidFieldsException("Unknown task field: " + field);
+    }
+}
@@ -1,6 +1,6 @@
 package com.dominik.todolist.exception;
 
-public class TaskConflictException extends RuntimeException {
+public class TaskConflictException extends DomainException {
     public TaskConflictException(String message) {
         super(message);
     }
@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.NOT_FOUND)
-public class TaskNotFoundException extends RuntimeException {
+public class TaskNotFoundException extends DomainException {
     private TaskNotFoundException(String message) {
         super(message);
     }
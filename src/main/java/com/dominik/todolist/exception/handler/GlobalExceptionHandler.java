@@ -1,35 +1,38 @@
 package com.dominik.todolist.exception.handler;
 
+import com.dominik.todolist.exception.EmailAlreadyExistsException;
+import com.dominik.todolist.exception.InvalidChangeTokenException;
+import com.dominik.todolist.exception.InvalidFieldsException;
 import com.dominik.todolist.exception.TaskConflictException;
+import com.dominik.todolist.exception.TaskNotFoundException;
 import com.dominik.todolist.exception.UserNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.context.request.WebRequest;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * Maps exceptions to RFC 7807 problem details written by {@link ProblemDetailWriter}.
+ */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Object> handleValidationExceptions(
-            MethodArgumentNotValidException ex, WebRequest request) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", System.currentTimeMillis());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        body.put("message", "Validation failed");
-
+    public ResponseEntity<byte[]> handleValidationExceptions(
+            MethodArgumentNotValidException ex, HttpServletRequest request) {
         Map<String, String> fieldErrors = ex.getBindingResult().getFieldErrors().stream()
                 .collect(Collectors.toMap(
                         FieldError::getField,
@@ -39,72 +42,80 @@ public class GlobalExceptionHandler {
                         },
                         (existingMessage, newMessage) -> existingMessage + "; " + newMessage
                 ));
-        body.put("errors", fieldErrors);
 
-        logger.warn("Validation error: Request URI: {} - Errors: {}",
-                request.getDescription(false).replace("uri=", ""),
-                fieldErrors);
+        logger.warn("Validation error: Request URI: {} - Errors: {}", request.getRequestURI(), fieldErrors);
 
-        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+        return ProblemDetailWriter.write(HttpStatus.BAD_REQUEST, "Validation failed", request.getRequestURI(), fieldErrors);
+    }
+
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<byte[]> handleTaskNotFound(TaskNotFoundException ex, HttpServletRequest request) {
+        // Probing for random IDs is common, so this is not worth a warning.
+        logger.debug("TaskNotFoundException: Request URI: {} - Message: {}", request.getRequestURI(), ex.getMessage());
+
+        return ProblemDetailWriter.write(HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<Object> handleUserNotFound(UserNotFoundException ex, WebRequest request) {
+    public ResponseEntity<byte[]> handleUserNotFound(UserNotFoundException ex, HttpServletRequest request) {
+        logger.warn("UserNotFoundException: Request URI: {} - Message: {}", request.getRequestURI(), ex.getMessage());
 
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", System.currentTimeMillis());
-        body.put("status", HttpStatus.NOT_FOUND.value());
-        body.put("message", ex.getMessage());
+        return ProblemDetailWriter.write(HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
+    }
 
-        logger.warn("UserNotFoundException: Request URI: {} - Message: {}",
-                request.getDescription(false).replace("uri=", ""),
-                ex.getMessage());
+    @ExceptionHandler(EmailAlreadyExistsException.class)
+    public ResponseEntity<byte[]> handleEmailAlreadyExists(EmailAlreadyExistsException ex, HttpServletRequest request) {
+        logger.warn("EmailAlreadyExistsException: Request URI: {} - Message: {}", request.getRequestURI(), ex.getMessage());
 
-        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+        return ProblemDetailWriter.write(HttpStatus.CONFLICT, ex.getMessage(), request.getRequestURI());
     }
 
-    @ExceptionHandler(BadCredentialsException.class)
-    public ResponseEntity<Object> handleBadCredentialsException(BadCredentialsException ex, WebRequest request) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", System.currentTimeMillis());
-        body.put("status", HttpStatus.UNAUTHORIZED.value());
-        body.put("message", "Invalid email or password");
+    @ExceptionHandler(InvalidChangeTokenException.class)
+    public ResponseEntity<byte[]> handleInvalidChangeToken(InvalidChangeTokenException ex, HttpServletRequest request) {
+        logger.warn("InvalidChangeTokenException: Request URI: {} - Message: {}", request.getRequestURI(), ex.getMessage());
+
+        return ProblemDetailWriter.write(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI());
+    }
 
-        logger.warn("BadCredentialsException: Request URI: {} - Message: {}",
-                request.getDescription(false).replace("uri=", ""),
-                ex.getMessage());
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<byte[]> handleInvalidFields(InvalidFieldsException ex, HttpServletRequest request) {
+        logger.warn("InvalidFieldsException: Request URI: {} - Message: {}", request.getRequestURI(), ex.getMessage());
 
-        return new ResponseEntity<>(body, HttpStatus.UNAUTHORIZED);
+        return ProblemDetailWriter.write(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI());
+    }
+
+    @ExceptionHandler(BadCredentialsException.class)
+    public ResponseEntity<byte[]> handleBadCredentialsException(BadCredentialsException ex, HttpServletRequest request) {
+        logger.warn("BadCredentialsException: Request URI: {} - Message: {}", request.getRequestURI(), ex.getMessage());
+
+        return ProblemDetailWriter.write(HttpStatus.UNAUTHORIZED, "Invalid email or password", request.getRequestURI());
     }
 
     @ExceptionHandler(TaskConflictException.class)
-    public ResponseEntity<Object> handleTaskConflictException(TaskConflictException ex, WebRequest request) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", System.currentTimeMillis());
-        body.put("status", HttpStatus.CONFLICT.value());
-        body.put("error", "Conflict");
-        body.put("message", ex.getMessage());
-
-        logger.warn("TaskConflictException: Request URI: {} - Message: {}",
-                request.getDescription(false).replace("uri=", ""),
-                ex.getMessage());
-
-        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    public ResponseEntity<byte[]> handleTaskConflictException(TaskConflictException ex, HttpServletRequest request) {
+        logger.warn("TaskConflictException: Request URI: {} - Message: {}", request.getRequestURI(), ex.getMessage());
+
+        return ProblemDetailWriter.write(HttpStatus.CONFLICT, ex.getMessage(), request.getRequestURI());
     }
 
-    @ExceptionHandler(IllegalStateException.class)
-    public ResponseEntity<Object> handleIllegalStateException(IllegalStateException ex, WebRequest request) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", System.currentTimeMillis());
-        body.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        body.put("error", "Internal Server Error");
-        body.put("message", "An unexpected internal error occurred: " + ex.getMessage());
+    @ExceptionHandler({TransactionTimedOutException.class, QueryTimeoutException.class})
+    public ResponseEntity<byte[]> handleDeadlineExceeded(RuntimeException ex, HttpServletRequest request) {
+        logger.warn("Request deadline exceeded: Request URI: {} - Message: {}", request.getRequestURI(), ex.getMessage());
+
+        return ProblemDetailWriter.write(HttpStatus.GATEWAY_TIMEOUT,
+                "The request did not complete within its deadline.",
+                request.getRequestURI());
+    }
 
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<byte[]> handleIllegalStateException(IllegalStateException ex, HttpServletRequest request) {
         logger.error("IllegalStateException: Request URI: {} - Message: {}",
-                request.getDescription(false).replace("uri=", ""),
+                request.getRequestURI(),
                 ex.getMessage(),
                 ex);
 
-        return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
+        return ProblemDetailWriter.write(HttpStatus.INTERNAL_SERVER_ERROR,
+                "An unexpected internal error occurred: " + ex.getMessage(),
+                request.getRequestURI());
     }
 }
@@ -0,0 +1,112 @@
+package com.dominik.todolist.exception.handler;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Writes RFC 7807 problem details straight to bytes. The JSON around the variable members is
+ * encoded once per status, so an error response costs one string builder and one byte array
+ * instead of a map, a {@code ProblemDetail} and a trip through Jackson.
+ */
+public final class ProblemDetailWriter {
+
+    private static final HttpHeaders HEADERS;
+    private static final byte[][] PREFIXES = new byte[600][];
+    private static final String INSTANCE_MEMBER = "\",\"instance\":\"";
+    private static final String ERRORS_MEMBER = "\",\"errors\":{";
+    private static final byte[] END = ascii("\"}");
+    private static final byte[] END_WITH_ERRORS = ascii("}}");
+
+    static {
+        final var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+        HEADERS = HttpHeaders.readOnlyHttpHeaders(headers);
+
+        for (HttpStatus status : HttpStatus.values()) {
+            PREFIXES[status.value()] = ascii("{\"type\":\"about:blank\",\"title\":\"" + status.getReasonPhrase()
+                    + "\",\"status\":" + status.value() + ",\"detail\":\"");
+        }
+    }
+
+    private ProblemDetailWriter() {
+    }
+
+    public static ResponseEntity<byte[]> write(HttpStatus status, String detail, String instance) {
+        final byte[] variable = utf8(detail, instance, null);
+        final byte[] prefix = PREFIXES[status.value()];
+
+        final byte[] body = new byte[prefix.length + variable.length + END.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(variable, 0, body, prefix.length, variable.length);
+        System.arraycopy(END, 0, body, prefix.length + variable.length, END.length);
+        return new ResponseEntity<>(body, HEADERS, status);
+    }
+
+    /**
+     * Writes a problem detail with an {@code errors} extension member mapping names to messages.
+     */
+    public static ResponseEntity<byte[]> write(HttpStatus status, String detail, String instance,
+                                               Map<String, String> errors) {
+        final byte[] variable = utf8(detail, instance, errors);
+        final byte[] prefix = PREFIXES[status.value()];
+
+        final byte[] body = new byte[prefix.length + variable.length + END_WITH_ERRORS.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(variable, 0, body, prefix.length, variable.length);
+        System.arraycopy(END_WITH_ERRORS, 0, body, prefix.length + variable.length, END_WITH_ERRORS.length);
+        return new ResponseEntity<>(body, HEADERS, status);
+    }
+
+    private static byte[] utf8(String detail, String instance, Map<String, String> errors) {
+        final var json = new StringBuilder(64 + detail.length() + instance.length());
+        escape(detail, json);
+        json.append(INSTANCE_MEMBER);
+        escape(instance, json);
+
+        if (errors != null) {
+            json.append(ERRORS_MEMBER);
+            boolean first = true;
+            for (var error : errors.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                json.append('"');
+                escape(error.getKey(), json);
+                json.append("\":\"");
+                escape(error.getValue(), json);
+                json.append('"');
+            }
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void escape(String value, StringBuilder json) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,82 @@
+package com.dominik.todolist.grpc;
+
+import com.dominik.todolist.web.AdaptiveConcurrencyLimiter;
+import com.dominik.todolist.web.RequestPriority;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The gRPC counterpart of {@code ConcurrencyLimitFilter}: admits calls through the same
+ * {@link AdaptiveConcurrencyLimiter} as the REST API and closes the rest with {@code UNAVAILABLE}.
+ * {@code SyncChanges} stays open for as long as the client is connected, like the SSE stream, so it
+ * is not limited.
+ */
+public class ConcurrencyLimitServerInterceptor implements ServerInterceptor {
+
+    private static final Set<String> READ_METHODS = Set.of("GetTask", "ListTasks");
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitServerInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                      ServerCallHandler<Q, R> next) {
+        final var method = call.getMethodDescriptor();
+        if (method.getType() == MethodDescriptor.MethodType.BIDI_STREAMING) {
+            return next.startCall(call, headers);
+        }
+
+        final var priority = READ_METHODS.contains(method.getBareMethodName()) ? RequestPriority.READ : RequestPriority.WRITE;
+        if (!limiter.tryAcquire(priority)) {
+            call.close(Status.UNAVAILABLE.withDescription("The server is overloaded. Retry later."), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        final long start = System.nanoTime();
+        final var released = new AtomicBoolean();
+        final Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(priority, start, System.nanoTime());
+            }
+        };
+
+        final ServerCall.Listener<Q> delegate;
+        try {
+            delegate = next.startCall(call, headers);
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(delegate) {
+            @Override
+            public void onComplete() {
+                try {
+                    super.onComplete();
+                } finally {
+                    release.run();
+                }
+            }
+
+            @Override
+            public void onCancel() {
+                try {
+                    super.onCancel();
+                } finally {
+                    release.run();
+                }
+            }
+        };
+    }
+}
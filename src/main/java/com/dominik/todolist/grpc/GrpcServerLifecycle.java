@@ -0,0 +1,65 @@
+package com.dominik.todolist.grpc;
+
+import io.grpc.Server;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the gRPC server with the application context and drains it on shutdown: new calls are
+ * refused at once, in-flight calls get the grace period to finish before they are cancelled.
+ */
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final Server server;
+    private final long shutdownGracePeriodSeconds;
+    private volatile boolean running;
+
+    public GrpcServerLifecycle(Server server, long shutdownGracePeriodSeconds) {
+        this.server = server;
+        this.shutdownGracePeriodSeconds = shutdownGracePeriodSeconds;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the gRPC server", e);
+        }
+        running = true;
+        LOGGER.info("gRPC server started on port {}.", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGracePeriodSeconds, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * The port the server listens on, which differs from the configured one when that was 0.
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+}
@@ -0,0 +1,148 @@
+package com.dominik.todolist.grpc;
+
+import com.dominik.todolist.security.JwtUtil;
+import com.dominik.todolist.web.RequestDeadline;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The gRPC counterpart of {@code JwtAuthFilter}: validates the bearer token in the
+ * {@code authorization} metadata and rejects the call with {@code UNAUTHENTICATED} if it is missing
+ * or invalid.
+ *
+ * <p>gRPC delivers the callbacks of one call on whichever executor thread is free, so the
+ * authentication is installed in the {@link SecurityContextHolder} around each callback rather than
+ * once per call. That way {@code TaskService} finds the caller exactly as it does for REST requests.
+ * The client's deadline, if it set one, is installed the same way as the {@link RequestDeadline}, so
+ * transactions and statements stop at it like they do for a REST request.
+ */
+public class JwtServerInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Logger log = LoggerFactory.getLogger(JwtServerInterceptor.class);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UserDetailsService userDetailsService;
+
+    public JwtServerInterceptor(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                      ServerCallHandler<Q, R> next) {
+        final Authentication authentication = authenticate(headers.get(AUTHORIZATION));
+        if (authentication == null) {
+            call.close(Status.UNAUTHENTICATED.withDescription("A valid bearer token is required."), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        final Deadline deadline = Context.current().getDeadline();
+        final Long deadlineNanos = deadline == null
+                ? null
+                : System.nanoTime() + deadline.timeRemaining(TimeUnit.NANOSECONDS);
+
+        final ServerCall.Listener<Q> delegate = callAs(authentication, () -> next.startCall(call, headers));
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(delegate) {
+            @Override
+            public void onMessage(Q message) {
+                runAs(authentication, deadlineNanos, () -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                runAs(authentication, deadlineNanos, super::onHalfClose);
+            }
+
+            @Override
+            public void onCancel() {
+                runAs(authentication, deadlineNanos, super::onCancel);
+            }
+
+            @Override
+            public void onComplete() {
+                runAs(authentication, deadlineNanos, super::onComplete);
+            }
+
+            @Override
+            public void onReady() {
+                runAs(authentication, deadlineNanos, super::onReady);
+            }
+        };
+    }
+
+    private static void runAs(Authentication authentication, Long deadlineNanos, Runnable action) {
+        if (deadlineNanos == null) {
+            runAs(authentication, action);
+        } else {
+            RequestDeadline.runWithin(deadlineNanos, () -> runAs(authentication, action));
+        }
+    }
+
+    /**
+     * Runs the action with the given caller in the {@link SecurityContextHolder}, restoring the
+     * previous context afterwards.
+     */
+    static void runAs(Authentication authentication, Runnable action) {
+        callAs(authentication, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static <T> T callAs(Authentication authentication, Supplier<T> action) {
+        final var previous = SecurityContextHolder.getContext();
+        final var context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            return action.get();
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    private Authentication authenticate(String authorization) {
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        final String jwt = authorization.substring(BEARER_PREFIX.length());
+        try {
+            final String userEmail = jwtUtil.extractUsername(jwt);
+            if (!StringUtils.hasText(userEmail)) {
+                return null;
+            }
+            final UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            if (!Boolean.TRUE.equals(jwtUtil.isTokenValid(jwt, userDetails))) {
+                log.warn("JWT token validation failed for gRPC call of user {}.", userEmail);
+                return null;
+            }
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (RuntimeException e) {
+            // JwtUtil already logs the specific reason for expired, malformed or forged tokens.
+            log.debug("Rejecting gRPC call with an unusable JWT: {}", e.getMessage());
+            return null;
+        }
+    }
+}
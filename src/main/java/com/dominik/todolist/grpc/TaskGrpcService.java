@@ -0,0 +1,376 @@
+package com.dominik.todolist.grpc;
+
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.event.TaskChangedEvent;
+import com.dominik.todolist.exception.InvalidChangeTokenException;
+import com.dominik.todolist.exception.InvalidFieldsException;
+import com.dominik.todolist.exception.TaskConflictException;
+import com.dominik.todolist.exception.TaskNotFoundException;
+import com.dominik.todolist.exception.UserNotFoundException;
+import com.dominik.todolist.grpc.v1.ChangeBatch;
+import com.dominik.todolist.grpc.v1.CreateTaskRequest;
+import com.dominik.todolist.grpc.v1.DeleteTaskRequest;
+import com.dominik.todolist.grpc.v1.GetTaskRequest;
+import com.dominik.todolist.grpc.v1.ListTasksRequest;
+import com.dominik.todolist.grpc.v1.RestoreTaskRequest;
+import com.dominik.todolist.grpc.v1.SyncRequest;
+import com.dominik.todolist.grpc.v1.Task;
+import com.dominik.todolist.grpc.v1.TasksGrpc;
+import com.dominik.todolist.grpc.v1.UpdateTaskRequest;
+import com.dominik.todolist.model.TaskStatus;
+import com.dominik.todolist.service.TaskService;
+import com.dominik.todolist.service.auth.AuthenticatedUserService;
+import com.google.protobuf.Empty;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the {@code todolist.v1.Tasks} gRPC service on top of {@link TaskService}, so both APIs share
+ * ownership checks, soft deletes, change events and the change feed. Runs with the caller that
+ * {@link JwtServerInterceptor} authenticated.
+ */
+public class TaskGrpcService extends TasksGrpc.TasksImplBase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskGrpcService.class);
+    private static final int DEFAULT_SYNC_LIMIT = 100;
+    private static final int LIST_PAGE_SIZE = 100;
+
+    private final TaskService taskService;
+    private final AuthenticatedUserService authenticatedUserService;
+    private final Validator validator;
+    private final Executor pushExecutor;
+    private final Executor changePushExecutor;
+    private final ConcurrentMap<Long, Set<ChangeSubscription>> subscriptionsByUser = new ConcurrentHashMap<>();
+
+    public TaskGrpcService(TaskService taskService,
+                           AuthenticatedUserService authenticatedUserService,
+                           Validator validator,
+                           Executor pushExecutor,
+                           long changeSafetyLagMs) {
+        this.taskService = taskService;
+        this.authenticatedUserService = authenticatedUserService;
+        this.validator = validator;
+        this.pushExecutor = pushExecutor;
+        this.changePushExecutor = changeSafetyLagMs > 0
+                ? CompletableFuture.delayedExecutor(changeSafetyLagMs, TimeUnit.MILLISECONDS, pushExecutor)
+                : pushExecutor;
+    }
+
+    @Override
+    public void createTask(CreateTaskRequest request, StreamObserver<Task> responseObserver) {
+        unary(responseObserver, () -> TaskProtoMapper.toTask(
+                taskService.createTask(validated(TaskProtoMapper.toCreateTaskRequest(request)))));
+    }
+
+    @Override
+    public void getTask(GetTaskRequest request, StreamObserver<Task> responseObserver) {
+        unary(responseObserver, () -> TaskProtoMapper.toTask(
+                taskService.getTaskByIdAndAppUser(request.getId(), Set.of())));
+    }
+
+    @Override
+    public void updateTask(UpdateTaskRequest request, StreamObserver<Task> responseObserver) {
+        unary(responseObserver, () -> TaskProtoMapper.toTask(
+                taskService.updateTask(request.getId(), validated(TaskProtoMapper.toTaskRequest(request)))));
+    }
+
+    @Override
+    public void deleteTask(DeleteTaskRequest request, StreamObserver<Empty> responseObserver) {
+        unary(responseObserver, () -> {
+            taskService.deleteTask(request.getId());
+            return Empty.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public void restoreTask(RestoreTaskRequest request, StreamObserver<Task> responseObserver) {
+        unary(responseObserver, () -> TaskProtoMapper.toTask(taskService.restoreTask(request.getId())));
+    }
+
+    /**
+     * Sends the tasks page by page while the client keeps up, one short transaction per page. When the
+     * transport buffer fills up, sending stops until gRPC reports the stream ready again.
+     */
+    @Override
+    public void listTasks(ListTasksRequest request, StreamObserver<Task> responseObserver) {
+        final var listing = new TaskListing(TaskProtoMapper.toStatus(request.getStatus()),
+                (ServerCallStreamObserver<Task>) responseObserver);
+        listing.observer.setOnCancelHandler(listing::cancel);
+        listing.observer.setOnReadyHandler(listing::sendWhileReady);
+        // The stream may have become ready before the handler was set, so start without waiting for it.
+        listing.sendWhileReady();
+    }
+
+    @Override
+    public StreamObserver<SyncRequest> syncChanges(StreamObserver<ChangeBatch> responseObserver) {
+        final var subscription = new ChangeSubscription(
+                SecurityContextHolder.getContext().getAuthentication(),
+                (ServerCallStreamObserver<ChangeBatch>) responseObserver);
+        subscription.observer.setOnCancelHandler(() -> unsubscribe(subscription));
+        subscription.observer.setOnReadyHandler(() -> {
+            if (subscription.isPushPending()) {
+                pushExecutor.execute(subscription::pushLatest);
+            }
+        });
+
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(SyncRequest request) {
+                try {
+                    subscription.pull(request.getSince(), request.getLimit());
+                } catch (RuntimeException e) {
+                    unsubscribe(subscription);
+                    subscription.fail(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                unsubscribe(subscription);
+            }
+
+            @Override
+            public void onCompleted() {
+                unsubscribe(subscription);
+                subscription.complete();
+            }
+        };
+    }
+
+    /**
+     * Pulls the changes of every open sync stream of the task's owner once the change has committed.
+     * A pull returns everything after the stream's last token, so changes that arrive in quick
+     * succession are sent together. The pull waits out the change feed's safety lag, before which
+     * the change is not returned.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        final var subscriptions = subscriptionsByUser.get(event.userId());
+        if (subscriptions != null) {
+            subscriptions.forEach(subscription -> changePushExecutor.execute(subscription::pushLatest));
+        }
+    }
+
+    public int getOpenSubscriptionCount() {
+        return subscriptionsByUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void subscribe(ChangeSubscription subscription) {
+        if (subscription.userId == null) {
+            subscription.userId = authenticatedUserService.getAuthenticatedUser().getId();
+            subscriptionsByUser.computeIfAbsent(subscription.userId, id -> new CopyOnWriteArraySet<>()).add(subscription);
+        }
+    }
+
+    private void unsubscribe(ChangeSubscription subscription) {
+        if (subscription.userId != null) {
+            subscriptionsByUser.computeIfPresent(subscription.userId, (id, subscriptions) -> {
+                subscriptions.remove(subscription);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+        }
+    }
+
+    private <T> T validated(T request) {
+        final Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> call) {
+        final T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            fail(responseObserver, e);
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    private static void fail(StreamObserver<?> responseObserver, RuntimeException e) {
+        if (e instanceof StatusRuntimeException statusException
+                && statusException.getStatus().getCode() == Status.Code.CANCELLED) {
+            // The client went away; there is nobody left to tell.
+            return;
+        }
+        responseObserver.onError(toStatus(e).asRuntimeException());
+    }
+
+    /**
+     * Maps the exceptions {@code GlobalExceptionHandler} turns into HTTP statuses to their gRPC equivalents.
+     */
+    static Status toStatus(RuntimeException e) {
+        return switch (e) {
+            case TaskNotFoundException notFound -> Status.NOT_FOUND.withDescription(notFound.getMessage());
+            case UserNotFoundException notFound -> Status.NOT_FOUND.withDescription(notFound.getMessage());
+            case TaskConflictException conflict -> Status.FAILED_PRECONDITION.withDescription(conflict.getMessage());
+            case InvalidChangeTokenException invalid -> Status.INVALID_ARGUMENT.withDescription(invalid.getMessage());
+            case InvalidFieldsException invalid -> Status.INVALID_ARGUMENT.withDescription(invalid.getMessage());
+            case ConstraintViolationException invalid -> Status.INVALID_ARGUMENT.withDescription(
+                    invalid.getConstraintViolations().stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining("; ")));
+            case TransactionTimedOutException timedOut -> Status.DEADLINE_EXCEEDED.withDescription(timedOut.getMessage());
+            case QueryTimeoutException timedOut -> Status.DEADLINE_EXCEEDED.withDescription(timedOut.getMessage());
+            default -> {
+                LOGGER.error("Unexpected error in gRPC call: {}", e.getMessage(), e);
+                yield Status.INTERNAL.withDescription("An unexpected internal error occurred.");
+            }
+        };
+    }
+
+    /**
+     * One {@code ListTasks} call. Remembers the last id sent, so each page continues where the
+     * previous one stopped, whichever thread the ready callback arrives on.
+     */
+    private final class TaskListing {
+
+        private final TaskStatus status;
+        private final ServerCallStreamObserver<Task> observer;
+        private long lastId;
+        private boolean done;
+
+        private TaskListing(TaskStatus status, ServerCallStreamObserver<Task> observer) {
+            this.status = status;
+            this.observer = observer;
+        }
+
+        synchronized void sendWhileReady() {
+            try {
+                while (!done && observer.isReady()) {
+                    final var page = taskService.getTasksAfterIdForCurrentUser(status, lastId, LIST_PAGE_SIZE);
+                    for (TaskResponse task : page) {
+                        observer.onNext(TaskProtoMapper.toTask(task));
+                        lastId = task.id();
+                    }
+                    if (page.size() < LIST_PAGE_SIZE) {
+                        done = true;
+                        observer.onCompleted();
+                    }
+                }
+            } catch (RuntimeException e) {
+                done = true;
+                fail(observer, e);
+            }
+        }
+
+        synchronized void cancel() {
+            done = true;
+        }
+    }
+
+    /**
+     * One {@code SyncChanges} stream. Pulls from the client and pushes after a commit share the
+     * stream's last token and are serialized on the subscription, so no change is sent twice or skipped.
+     */
+    private final class ChangeSubscription {
+
+        private final Authentication authentication;
+        private final ServerCallStreamObserver<ChangeBatch> observer;
+        private volatile Long userId;
+        private String lastToken;
+        private int limit = DEFAULT_SYNC_LIMIT;
+        private boolean pushPending;
+        private boolean closed;
+
+        private ChangeSubscription(Authentication authentication, ServerCallStreamObserver<ChangeBatch> observer) {
+            this.authentication = authentication;
+            this.observer = observer;
+        }
+
+        /**
+         * Answers a client request: sends every batch after {@code since}, at least one even if empty.
+         * The first pull also registers the stream for pushes. That happens under the subscription's
+         * lock, so no push can run before the pull has set the token it continues from.
+         */
+        synchronized void pull(String since, int requestedLimit) {
+            if (closed) {
+                return;
+            }
+            limit = requestedLimit > 0 ? requestedLimit : DEFAULT_SYNC_LIMIT;
+            lastToken = since.isEmpty() ? null : since;
+            subscribe(this);
+            sendChanges(true);
+        }
+
+        /**
+         * Sends the changes after the last token, unless the client is not reading fast enough; then
+         * the push is retried once the stream is ready again.
+         */
+        synchronized void pushLatest() {
+            if (closed || userId == null) {
+                return;
+            }
+            if (!observer.isReady()) {
+                pushPending = true;
+                return;
+            }
+            pushPending = false;
+            try {
+                JwtServerInterceptor.runAs(authentication, () -> sendChanges(false));
+            } catch (RuntimeException e) {
+                unsubscribe(this);
+                fail(e);
+            }
+        }
+
+        synchronized boolean isPushPending() {
+            return pushPending;
+        }
+
+        synchronized void complete() {
+            if (!closed) {
+                closed = true;
+                observer.onCompleted();
+            }
+        }
+
+        synchronized void fail(RuntimeException e) {
+            if (!closed) {
+                closed = true;
+                TaskGrpcService.fail(observer, e);
+            }
+        }
+
+        private void sendChanges(boolean alwaysSend) {
+            boolean hasMore;
+            do {
+                final var changes = taskService.getChangesForCurrentUser(lastToken, limit);
+                if (alwaysSend || !changes.changes().isEmpty()) {
+                    observer.onNext(TaskProtoMapper.toChangeBatch(changes));
+                    alwaysSend = false;
+                }
+                lastToken = changes.nextToken();
+                hasMore = changes.hasMore();
+            } while (hasMore);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.dominik.todolist.grpc;
+
+import com.dominik.todolist.dto.TaskChangeResponse;
+import com.dominik.todolist.dto.TaskChangesResponse;
+import com.dominik.todolist.dto.TaskRequest;
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.grpc.v1.ChangeBatch;
+import com.dominik.todolist.grpc.v1.CreateTaskRequest;
+import com.dominik.todolist.grpc.v1.Task;
+import com.dominik.todolist.grpc.v1.TaskChange;
+import com.dominik.todolist.grpc.v1.UpdateTaskRequest;
+import com.dominik.todolist.model.TaskStatus;
+import com.google.protobuf.Timestamp;
+
+import java.time.Instant;
+
+/**
+ * Converts between the protobuf messages of the gRPC API and the DTOs {@code TaskService} works with.
+ */
+final class TaskProtoMapper {
+
+    private TaskProtoMapper() {
+    }
+
+    static com.dominik.todolist.dto.CreateTaskRequest toCreateTaskRequest(CreateTaskRequest request) {
+        return new com.dominik.todolist.dto.CreateTaskRequest(request.getTitle(), request.getDescription());
+    }
+
+    static TaskRequest toTaskRequest(UpdateTaskRequest request) {
+        return new TaskRequest(request.getTitle(), request.getDescription(), toStatus(request.getStatus()));
+    }
+
+    static Task toTask(TaskResponse task) {
+        final var builder = Task.newBuilder()
+                .setId(task.id())
+                .setTitle(task.title())
+                .setDescription(task.description())
+                .setStatus(toProtoStatus(task.status()))
+                .setUserId(task.userId())
+                .setUserEmail(task.userEmail());
+        if (task.createdAt() != null) {
+            builder.setCreatedAt(toTimestamp(task.createdAt()));
+        }
+        if (task.updatedAt() != null) {
+            builder.setUpdatedAt(toTimestamp(task.updatedAt()));
+        }
+        return builder.build();
+    }
+
+    static ChangeBatch toChangeBatch(TaskChangesResponse changes) {
+        final var builder = ChangeBatch.newBuilder()
+                .setNextToken(changes.nextToken())
+                .setHasMore(changes.hasMore())
+                .setResetRequired(changes.resetRequired());
+        for (TaskChangeResponse change : changes.changes()) {
+            final var protoChange = TaskChange.newBuilder()
+                    .setId(change.id())
+                    .setDeleted(change.deleted())
+                    .setChangedAt(toTimestamp(change.changedAt()));
+            if (change.task() != null) {
+                protoChange.setTask(toTask(change.task()));
+            }
+            builder.addChanges(protoChange);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return The status, or null for {@code TASK_STATUS_UNSPECIFIED}, which means "any" or "unchanged".
+     */
+    static TaskStatus toStatus(com.dominik.todolist.grpc.v1.TaskStatus status) {
+        return switch (status) {
+            case TO_DO -> TaskStatus.TO_DO;
+            case IN_PROGRESS -> TaskStatus.IN_PROGRESS;
+            case DONE -> TaskStatus.DONE;
+            case TASK_STATUS_UNSPECIFIED, UNRECOGNIZED -> null;
+        };
+    }
+
+    private static com.dominik.todolist.grpc.v1.TaskStatus toProtoStatus(TaskStatus status) {
+        return switch (status) {
+            case TO_DO -> com.dominik.todolist.grpc.v1.TaskStatus.TO_DO;
+            case IN_PROGRESS -> com.dominik.todolist.grpc.v1.TaskStatus.IN_PROGRESS;
+            case DONE -> com.dominik.todolist.grpc.v1.TaskStatus.DONE;
+        };
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.dominik.todolist.json;
+
+import java.time.Instant;
+
+/**
+ * Formats an {@link Instant} exactly like {@link Instant#toString()}, which is what Jackson writes,
+ * but into a caller-supplied buffer instead of through a {@code StringBuilder} and a new string.
+ * Only years 0000 to 9999 are handled; callers fall back to {@code toString()} outside that range.
+ */
+final class IsoInstantFormat {
+
+    /** Length of the longest supported output, {@code yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ}. */
+    static final int MAX_LENGTH = 30;
+
+    private static final long MIN_SECOND = -62_167_219_200L; // 0000-01-01T00:00:00Z
+    private static final long MAX_SECOND = 253_402_300_799L; // 9999-12-31T23:59:59Z
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int DAYS_0000_TO_1970 = 719_468;
+
+    private IsoInstantFormat() {
+    }
+
+    /**
+     * @return The number of characters written, or -1 if the year is outside 0000 to 9999.
+     */
+    static int format(Instant instant, char[] buffer) {
+        final long epochSecond = instant.getEpochSecond();
+        if (epochSecond < MIN_SECOND || epochSecond > MAX_SECOND) {
+            return -1;
+        }
+        final long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        final int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // Civil date from a day count, see https://howardhinnant.github.io/date_algorithms.html#civil_from_days
+        final long shifted = epochDay + DAYS_0000_TO_1970;
+        final long era = Math.floorDiv(shifted, 146_097);
+        final int dayOfEra = (int) (shifted - era * 146_097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, month, 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, day, 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, secondOfDay / 3600, 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, secondOfDay / 60 % 60, 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, secondOfDay % 60, 2);
+
+        int length = 19;
+        final int nano = instant.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            // Like DateTimeFormatter.ISO_INSTANT: milli, micro or nano precision, whichever is exact.
+            if (nano % 1_000_000 == 0) {
+                writeDigits(buffer, length, nano / 1_000_000, 3);
+                length += 3;
+            } else if (nano % 1000 == 0) {
+                writeDigits(buffer, length, nano / 1000, 6);
+                length += 6;
+            } else {
+                writeDigits(buffer, length, nano, 9);
+                length += 9;
+            }
+        }
+        buffer[length++] = 'Z';
+        return length;
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
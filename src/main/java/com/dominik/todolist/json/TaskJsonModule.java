@@ -0,0 +1,190 @@
+package com.dominik.todolist.json;
+
+import com.dominik.todolist.dto.TaskListResponse;
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Serializers for the task DTOs that produce the same bytes as Jackson's reflective bean serializer,
+ * without its per-property dispatch. Field names and {@link TaskStatus} values are encoded once, and
+ * instants are formatted into a buffer reused across all rows of a response.
+ *
+ * <p>Property order and null handling mirror the records: {@link TaskResponse} and
+ * {@link TaskListResponse.Item} leave out null attributes, everything else writes them.
+ */
+public class TaskJsonModule extends SimpleModule {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString USER_ID = new SerializedString("userId");
+    private static final SerializableString USER_EMAIL = new SerializedString("userEmail");
+    private static final SerializableString OWNER = new SerializedString("owner");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString PAGE = new SerializedString("page");
+    private static final SerializableString NUMBER = new SerializedString("number");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+
+    private static final Map<TaskStatus, SerializableString> STATUS_VALUES = new EnumMap<>(TaskStatus.class);
+
+    static {
+        for (TaskStatus status : TaskStatus.values()) {
+            STATUS_VALUES.put(status, new SerializedString(status.name()));
+        }
+    }
+
+    public TaskJsonModule() {
+        super(TaskJsonModule.class.getSimpleName());
+        addSerializer(TaskResponse.class, new TaskResponseSerializer());
+        addSerializer(TaskListResponse.class, new TaskListResponseSerializer());
+    }
+
+    static final class TaskResponseSerializer extends StdSerializer<TaskResponse> {
+
+        TaskResponseSerializer() {
+            super(TaskResponse.class);
+        }
+
+        @Override
+        public void serialize(TaskResponse task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            final char[] buffer = new char[IsoInstantFormat.MAX_LENGTH];
+            gen.writeStartObject(task);
+            writeNumberIfPresent(gen, ID, task.id());
+            writeStringIfPresent(gen, TITLE, task.title());
+            writeStringIfPresent(gen, DESCRIPTION, task.description());
+            writeStatusIfPresent(gen, task.status());
+            writeInstantIfPresent(gen, CREATED_AT, task.createdAt(), buffer);
+            writeInstantIfPresent(gen, UPDATED_AT, task.updatedAt(), buffer);
+            writeNumberIfPresent(gen, USER_ID, task.userId());
+            writeStringIfPresent(gen, USER_EMAIL, task.userEmail());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class TaskListResponseSerializer extends StdSerializer<TaskListResponse> {
+
+        TaskListResponseSerializer() {
+            super(TaskListResponse.class);
+        }
+
+        @Override
+        public void serialize(TaskListResponse list, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            final char[] buffer = new char[IsoInstantFormat.MAX_LENGTH];
+            gen.writeStartObject(list);
+
+            gen.writeFieldName(OWNER);
+            final var owner = list.owner();
+            if (owner == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartObject(owner);
+                gen.writeFieldName(ID);
+                writeNumber(gen, owner.id());
+                gen.writeFieldName(EMAIL);
+                gen.writeString(owner.email());
+                gen.writeEndObject();
+            }
+
+            gen.writeFieldName(CONTENT);
+            if (list.content() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(list.content(), list.content().size());
+                for (TaskListResponse.Item item : list.content()) {
+                    if (item == null) {
+                        gen.writeNull();
+                        continue;
+                    }
+                    gen.writeStartObject(item);
+                    writeNumberIfPresent(gen, ID, item.id());
+                    writeStringIfPresent(gen, TITLE, item.title());
+                    writeStringIfPresent(gen, DESCRIPTION, item.description());
+                    writeStatusIfPresent(gen, item.status());
+                    writeInstantIfPresent(gen, CREATED_AT, item.createdAt(), buffer);
+                    writeInstantIfPresent(gen, UPDATED_AT, item.updatedAt(), buffer);
+                    gen.writeEndObject();
+                }
+                gen.writeEndArray();
+            }
+
+            gen.writeFieldName(PAGE);
+            final var page = list.page();
+            if (page == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartObject(page);
+                gen.writeFieldName(NUMBER);
+                gen.writeNumber(page.number());
+                gen.writeFieldName(SIZE);
+                gen.writeNumber(page.size());
+                gen.writeFieldName(TOTAL_ELEMENTS);
+                gen.writeNumber(page.totalElements());
+                gen.writeFieldName(TOTAL_PAGES);
+                gen.writeNumber(page.totalPages());
+                gen.writeEndObject();
+            }
+
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeNumberIfPresent(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeStringIfPresent(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeStatusIfPresent(JsonGenerator gen, TaskStatus status) throws IOException {
+        if (status != null) {
+            gen.writeFieldName(STATUS);
+            gen.writeString(STATUS_VALUES.get(status));
+        }
+    }
+
+    private static void writeInstantIfPresent(JsonGenerator gen, SerializableString name, Instant value,
+                                              char[] buffer) throws IOException {
+        if (value == null) {
+            return;
+        }
+        gen.writeFieldName(name);
+        final int length = IsoInstantFormat.format(value, buffer);
+        if (length < 0) {
+            gen.writeString(value.toString());
+        } else {
+            gen.writeString(buffer, 0, length);
+        }
+    }
+}
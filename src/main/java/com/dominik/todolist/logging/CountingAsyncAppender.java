@@ -0,0 +1,44 @@
+package com.dominik.todolist.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link AsyncAppender} that counts the events it throws away, either because the queue was
+ * past the discarding threshold and the event was INFO or lower, or because the queue was full
+ * and the appender is configured never to block. The counts are exposed as metrics by
+ * {@link com.dominik.todolist.config.MetricsConfig#loggingMetrics()}; they are approximate because
+ * the queue is checked just before offering.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        final int remainingCapacity = getRemainingCapacity();
+        if (remainingCapacity < getDiscardingThreshold() && isDiscardable(event)) {
+            discarded.increment();
+        } else if (remainingCapacity == 0 && isNeverBlock()) {
+            dropped.increment();
+        }
+        super.append(event);
+    }
+
+    /**
+     * @return Events of INFO or lower discarded because the queue was nearly full.
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    /**
+     * @return Events of any level dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
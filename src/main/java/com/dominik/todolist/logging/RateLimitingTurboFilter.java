@@ -0,0 +1,90 @@
+package com.dominik.todolist.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets at most {@code maxEventsPerSecond} events per logger through for loggers under
+ * {@code loggerPrefix}, at {@code maxLevel} or below. Meant for messages on the request hot path,
+ * where logging every occurrence would cost more than it tells. WARN and ERROR are never sampled
+ * unless {@code maxLevel} says so.
+ *
+ * <pre>{@code
+ * <turboFilter class="com.dominik.todolist.logging.RateLimitingTurboFilter">
+ *     <loggerPrefix>com.dominik.todolist.security</loggerPrefix>
+ *     <maxEventsPerSecond>20</maxEventsPerSecond>
+ *     <maxLevel>INFO</maxLevel>
+ * </turboFilter>
+ * }</pre>
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+    private String loggerPrefix = "";
+    private int maxEventsPerSecond = 10;
+    private Level maxLevel = Level.INFO;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Level checks such as isDebugEnabled() arrive without a format and must not use up the budget.
+        if (!isStarted() || format == null || level.levelInt > maxLevel.levelInt
+                || !logger.getName().startsWith(loggerPrefix)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (windows.computeIfAbsent(logger.getName(), name -> new Window()).tryAcquire(maxEventsPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    public String getLoggerPrefix() {
+        return loggerPrefix;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    /**
+     * A fixed one-second window. Slightly bursty at window edges, but needs no locking.
+     */
+    private static final class Window {
+        private final AtomicLong start = new AtomicLong(System.nanoTime());
+        private final AtomicLong count = new AtomicLong();
+
+        boolean tryAcquire(int limit) {
+            final long now = System.nanoTime();
+            final long windowStart = start.get();
+            if (now - windowStart >= WINDOW_NANOS && start.compareAndSet(windowStart, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
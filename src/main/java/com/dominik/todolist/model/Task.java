@@ -1,6 +1,8 @@
 package com.dominik.todolist.model;
 
+import com.dominik.todolist.service.KnownTaskIdListener;
 import jakarta.persistence.*;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
@@ -9,14 +11,20 @@ import org.hibernate.annotations.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "tasks")
+@EntityListeners(KnownTaskIdListener.class)
+@Table(
+        name = "tasks",
+        indexes = @Index(name = "idx_tasks_user_id_updated_at", columnList = "user_id, updated_at")
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @ToString(exclude = {"appUser"})
-@SQLDelete(sql = "UPDATE tasks SET is_deleted = true, deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+// TaskService.deleteTask sets the flags itself so updated_at uses the JVM clock like every other write.
+// This keeps repository deletes and orphan removal through AppUser.tasks soft as well, leaving a tombstone.
+@SQLDelete(sql = "UPDATE tasks SET is_deleted = true, deleted_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE id = ?")
 @SQLRestriction("is_deleted = false")
 public class Task {
 
@@ -0,0 +1,37 @@
+package com.dominik.todolist.repository;
+
+import com.dominik.todolist.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the next batch of events that are due for delivery, oldest first.
+     * Rows already locked by another dispatcher are skipped, so several instances can poll concurrently.
+     * @param now Events whose next attempt is scheduled after this instant are not returned.
+     * @param pageable The batch size.
+     * @return The locked events.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDueForDelivery(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * @return The creation time of the oldest undelivered event, or null if the outbox is empty.
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e")
+    Instant findOldestCreatedAt();
+}
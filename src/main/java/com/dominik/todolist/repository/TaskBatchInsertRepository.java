@@ -0,0 +1,20 @@
+package com.dominik.todolist.repository;
+
+import com.dominik.todolist.model.Task;
+
+import java.util.List;
+
+/**
+ * Inserts that bypass the persistence context so many tasks can share one statement.
+ */
+public interface TaskBatchInsertRepository {
+
+    /**
+     * Inserts the tasks with a single multi-row {@code INSERT} and sets each task's generated id.
+     * The tasks must carry their timestamps and owner; they are not managed afterwards, and
+     * JPA entity listeners are not called.
+     *
+     * @return The same tasks, in the same order.
+     */
+    List<Task> insertAll(List<Task> tasks);
+}
@@ -0,0 +1,62 @@
+package com.dominik.todolist.repository;
+
+import com.dominik.todolist.model.Task;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.ZoneOffset;
+import java.util.List;
+
+class TaskBatchInsertRepositoryImpl implements TaskBatchInsertRepository {
+
+    private static final String INSERT =
+            "INSERT INTO tasks (title, description, status, created_at, updated_at, is_deleted, user_id) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, false, ?)";
+
+    private final EntityManager entityManager;
+
+    TaskBatchInsertRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Task> insertAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+
+        final var sql = new StringBuilder(INSERT.length() + tasks.size() * (ROW.length() + 2)).append(INSERT);
+        for (int i = 0; i < tasks.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW);
+        }
+
+        // Runs on the connection of the current transaction, so the rows commit or roll back with it.
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString(), new String[]{"id"})) {
+                int index = 1;
+                for (Task task : tasks) {
+                    statement.setString(index++, task.getTitle());
+                    statement.setString(index++, task.getDescription());
+                    statement.setString(index++, task.getStatus().name());
+                    statement.setObject(index++, task.getCreatedAt().atOffset(ZoneOffset.UTC));
+                    statement.setObject(index++, task.getUpdatedAt().atOffset(ZoneOffset.UTC));
+                    statement.setLong(index++, task.getAppUser().getId());
+                }
+                statement.executeUpdate();
+
+                // Generated keys come back in VALUES order.
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (Task task : tasks) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Expected " + tasks.size() + " generated task ids");
+                        }
+                        task.setId(keys.getLong(1));
+                    }
+                }
+            }
+            return tasks;
+        });
+    }
+}
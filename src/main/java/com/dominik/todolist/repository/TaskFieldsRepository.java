@@ -0,0 +1,28 @@
+package com.dominik.todolist.repository;
+
+import com.dominik.todolist.dto.TaskField;
+import com.dominik.todolist.model.TaskStatus;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Task queries that read only the requested columns. Each tuple element is aliased with the
+ * field's {@link TaskField#jsonName()}; fields that were not requested are absent from the tuple.
+ */
+public interface TaskFieldsRepository {
+
+    /**
+     * Same rows as {@link TaskRepository#findByUserIdAndOptionalStatus}, narrowed to the given fields.
+     */
+    Page<Tuple> findFieldsByUserIdAndOptionalStatus(Long userId, TaskStatus status, Set<TaskField> fields,
+                                                    Pageable pageable);
+
+    /**
+     * Returns the given fields of an active task, or empty if it does not exist or belongs to someone else.
+     */
+    Optional<Tuple> findFieldsByIdAndUserId(Long id, Long userId, Set<TaskField> fields);
+}
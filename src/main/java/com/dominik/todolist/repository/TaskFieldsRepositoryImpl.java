@@ -0,0 +1,107 @@
+package com.dominik.todolist.repository;
+
+import com.dominik.todolist.dto.TaskField;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.model.Task;
+import com.dominik.todolist.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+class TaskFieldsRepositoryImpl implements TaskFieldsRepository {
+
+    private final EntityManager entityManager;
+
+    TaskFieldsRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<Tuple> findFieldsByUserIdAndOptionalStatus(Long userId, TaskStatus status, Set<TaskField> fields,
+                                                           Pageable pageable) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        final Root<Task> task = query.from(Task.class);
+        query.multiselect(selections(task, fields))
+                .where(ownedWithOptionalStatus(cb, task, userId, status))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+
+        final var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable,
+                () -> countByUserIdAndOptionalStatus(userId, status));
+    }
+
+    @Override
+    public Optional<Tuple> findFieldsByIdAndUserId(Long id, Long userId, Set<TaskField> fields) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        final Root<Task> task = query.from(Task.class);
+        query.multiselect(selections(task, fields))
+                .where(cb.equal(task.get("id"), id), cb.equal(task.get("appUser").get("id"), userId));
+
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    private long countByUserIdAndOptionalStatus(Long userId, TaskStatus status) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<Task> task = query.from(Task.class);
+        query.select(cb.count(task))
+                .where(ownedWithOptionalStatus(cb, task, userId, status));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate[] ownedWithOptionalStatus(CriteriaBuilder cb, Root<Task> task, Long userId,
+                                                       TaskStatus status) {
+        final Predicate owned = cb.equal(task.get("appUser").get("id"), userId);
+        return status == null
+                ? new Predicate[]{owned}
+                : new Predicate[]{owned, cb.equal(task.get("status"), status)};
+    }
+
+    /**
+     * The owner's id is the task's foreign key and needs no join; only the email joins the users table.
+     */
+    private static List<Selection<?>> selections(Root<Task> task, Set<TaskField> fields) {
+        final List<Selection<?>> selections = new ArrayList<>(fields.size());
+        Join<Task, AppUser> owner = null;
+        for (TaskField field : fields) {
+            final Selection<?> selection = switch (field) {
+                case ID -> task.get("id");
+                case TITLE -> task.get("title");
+                case DESCRIPTION -> task.get("description");
+                case STATUS -> task.get("status");
+                case CREATED_AT -> task.get("createdAt");
+                case UPDATED_AT -> task.get("updatedAt");
+                case USER_ID -> task.get("appUser").get("id");
+                case USER_EMAIL -> {
+                    if (owner == null) {
+                        owner = task.join("appUser");
+                    }
+                    yield owner.get("email");
+                }
+            };
+            selections.add(selection.alias(field.jsonName()));
+        }
+        return selections;
+    }
+}
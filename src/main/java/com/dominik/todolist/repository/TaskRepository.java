@@ -11,23 +11,75 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskFieldsRepository, TaskBatchInsertRepository {
     @Query("SELECT t FROM Task t WHERE t.appUser.id = :userId AND (:status IS NULL OR t.status = :status)")
     Page<Task> findByUserIdAndOptionalStatus(
             @Param("userId") Long userId,
             @Param("status") TaskStatus status,
             Pageable pageable);
 
+    /**
+     * Same rows as {@link #findByUserIdAndOptionalStatus} with an id above {@code afterId}, in id order.
+     * Walking the tasks by id keeps every page a short range scan, however far the caller has got.
+     */
+    @Query("SELECT t FROM Task t WHERE t.appUser.id = :userId AND (:status IS NULL OR t.status = :status) " +
+            "AND t.id > :afterId ORDER BY t.id")
+    List<Task> findByUserIdAndOptionalStatusAfterId(
+            @Param("userId") Long userId,
+            @Param("status") TaskStatus status,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
     @Query(value = "SELECT * FROM tasks WHERE id = :id", nativeQuery = true)
     Optional<Task> findByIdEvenIfDeleted(@Param("id") Long id);
 
+    /**
+     * Returns the user's tasks, including soft-deleted ones, that changed after the given
+     * (updatedAt, id) position and before {@code visibleBefore}, in the order they changed.
+     * Backed by the (user_id, updated_at) index.
+     * @param userId The owner of the tasks.
+     * @param since The updatedAt of the last change the client has seen.
+     * @param afterId The id of the last change the client has seen, used to break updatedAt ties.
+     * @param visibleBefore Changes stamped at or after this instant may still have uncommitted
+     *                      neighbours and are left for a later call.
+     * @param limit The maximum number of rows to return.
+     * @return The changed tasks, oldest change first.
+     */
+    @Query(
+            value = "SELECT * FROM tasks WHERE user_id = :userId " +
+                    "AND (updated_at > :since OR (updated_at = :since AND id > :afterId)) " +
+                    "AND updated_at < :visibleBefore " +
+                    "ORDER BY updated_at, id LIMIT :limit",
+            nativeQuery = true
+    )
+    List<Task> findChangesSince(
+            @Param("userId") Long userId,
+            @Param("since") Instant since,
+            @Param("afterId") Long afterId,
+            @Param("visibleBefore") Instant visibleBefore,
+            @Param("limit") int limit);
+
+    @Query(
+            value = "SELECT id FROM tasks WHERE is_deleted = true AND deleted_at < :cutoffDate",
+            nativeQuery = true
+    )
+    List<Long> findIdsMarkedForDeletionBefore(@Param("cutoffDate") Instant cutoffDate);
+
+    /**
+     * Deletes the given tasks, re-checking that each is still soft-deleted and past the cutoff,
+     * so a task restored after its ID was selected survives.
+     */
     @Modifying
     @Query(
-            value = "DELETE FROM tasks WHERE is_deleted = true AND deleted_at < :cutoffDate",
+            value = "DELETE FROM tasks WHERE id IN (:ids) AND is_deleted = true AND deleted_at < :cutoffDate",
             nativeQuery = true
     )
-    int deleteTasksMarkedForDeletionBefore(@Param("cutoffDate") Instant cutoffDate);
+    int deleteTasksMarkedForDeletionBefore(@Param("ids") List<Long> ids, @Param("cutoffDate") Instant cutoffDate);
+
+    @Query(value = "SELECT id FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
 }
@@ -1,5 +1,9 @@
 package com.dominik.todolist.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,11 +30,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final Timer parseTimer;
+    private final Timer userLoadTimer;
+    private final Timer verifyTimer;
+    private final ObservationRegistry observationRegistry;
 
     @Autowired
-    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthFilter(JwtUtil jwtUtil,
+                         UserDetailsService userDetailsService,
+                         MeterRegistry meterRegistry,
+                         ObservationRegistry observationRegistry) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.observationRegistry = observationRegistry;
+        this.parseTimer = phaseTimer(meterRegistry, "parse");
+        this.userLoadTimer = phaseTimer(meterRegistry, "user_load");
+        this.verifyTimer = phaseTimer(meterRegistry, "verify");
     }
 
     @Override
@@ -41,27 +56,33 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization");
-        String jwt = null;
-        String userEmail = null;
-
         if (StringUtils.hasText(authHeader) && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
-            try {
-                userEmail = jwtUtil.extractUsername(jwt);
-                log.debug("Extracted userEmail: {} from JWT", userEmail);
-            } catch (Exception e) {
-                // JwtUtil already logs specific errors for expired, malformed, signature issues, etc.
-                // This catch is more for unexpected issues during extraction itself.
-                log.warn("Could not extract username from JWT or token is invalid early: {}", e.getMessage());
-            }
+            Observation.createNotStarted("auth.jwt", observationRegistry)
+                    .contextualName("jwt authentication")
+                    .observe(() -> authenticate(request, authHeader.substring(7)));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request, String jwt) {
+        String userEmail = null;
+        try {
+            userEmail = parseTimer.record(() -> jwtUtil.extractUsername(jwt));
+            log.debug("Extracted userEmail: {} from JWT", userEmail);
+        } catch (Exception e) {
+            // JwtUtil already logs specific errors for expired, malformed, signature issues, etc.
+            // This catch is more for unexpected issues during extraction itself.
+            log.warn("Could not extract username from JWT or token is invalid early: {}", e.getMessage());
         }
 
         if (StringUtils.hasText(userEmail) && SecurityContextHolder.getContext().getAuthentication() == null) {
             log.debug("User email {} found in token, attempting to load UserDetails.", userEmail);
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail); // Can throw UsernameNotFoundException
+            final String email = userEmail;
+            UserDetails userDetails = userLoadTimer.record(() -> this.userDetailsService.loadUserByUsername(email)); // Can throw UsernameNotFoundException
 
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
-                log.info("JWT Token is valid for user {}. Setting authentication context.", userEmail);
+            if (Boolean.TRUE.equals(verifyTimer.record(() -> jwtUtil.isTokenValid(jwt, userDetails)))) {
+                log.debug("JWT Token is valid for user {}. Setting authentication context.", userEmail);
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -72,13 +93,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             } else {
                 log.warn("JWT token validation failed for user {}.", userEmail);
             }
-        } else if (StringUtils.hasText(authHeader) && authHeader.startsWith("Bearer ") && !StringUtils.hasText(userEmail)) {
+        } else if (!StringUtils.hasText(userEmail)) {
             // This case means token was present but username extraction failed (e.g., token was invalid/expired)
             // JwtUtil's extractAllClaims would have logged the specific reason.
             log.debug("JWT was present but userEmail could not be extracted or was invalid.");
         }
+    }
 
-
-        filterChain.doFilter(request, response);
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("auth.jwt.filter")
+                .description("Time spent in each phase of JWT authentication")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
\ No newline at end of file
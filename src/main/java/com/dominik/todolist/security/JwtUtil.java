@@ -1,5 +1,6 @@
 package com.dominik.todolist.security;
 
+import com.dominik.todolist.diagnostics.JwtVerificationEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
@@ -96,27 +97,38 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
+        final var event = new JwtVerificationEvent();
+        event.begin();
         try {
-            return Jwts.parser()
+            final Claims claims = Jwts.parser()
                     .verifyWith(secretKey)
                     .build()
                     .parseSignedClaims(token)
                     .getPayload();
+            event.valid = true;
+            return claims;
         } catch (ExpiredJwtException e) {
+            event.failure = e.getClass().getSimpleName();
             logger.warn("JWT token has expired: {}", e.getMessage());
             throw e;
         } catch (UnsupportedJwtException e) {
+            event.failure = e.getClass().getSimpleName();
             logger.error("JWT token is unsupported: {}", e.getMessage());
             throw e;
         } catch (MalformedJwtException e) {
+            event.failure = e.getClass().getSimpleName();
             logger.error("JWT token is malformed: {}", e.getMessage());
             throw e;
         } catch (SignatureException e) {
+            event.failure = e.getClass().getSimpleName();
             logger.error("JWT signature validation failed: {}", e.getMessage());
             throw e;
         } catch (IllegalArgumentException e) {
+            event.failure = e.getClass().getSimpleName();
             logger.error("JWT claims string is empty or invalid: {}", e.getMessage());
             throw e;
+        } finally {
+            event.commit();
         }
     }
 
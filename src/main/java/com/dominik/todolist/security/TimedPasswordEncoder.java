@@ -0,0 +1,66 @@
+package com.dominik.todolist.security;
+
+import com.dominik.todolist.diagnostics.PasswordHashEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Records how long hashing and verifying passwords takes, both as metrics and as JFR events.
+ * BCrypt is deliberately slow, so this is usually the largest single cost of the register and
+ * login endpoints.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = operationTimer(meterRegistry, "encode");
+        this.matchesTimer = operationTimer(meterRegistry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        final var event = beginEvent("encode");
+        try {
+            return encodeTimer.record(() -> delegate.encode(rawPassword));
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        final var event = beginEvent("matches");
+        final var sample = Timer.start();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            sample.stop(matchesTimer);
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static PasswordHashEvent beginEvent(String operation) {
+        final var event = new PasswordHashEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    private static Timer operationTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("Time spent hashing or verifying passwords")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
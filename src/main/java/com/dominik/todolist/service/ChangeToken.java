@@ -0,0 +1,45 @@
+package com.dominik.todolist.service;
+
+import com.dominik.todolist.exception.InvalidChangeTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in a user's change feed: the (updatedAt, id) of the last change a client has seen.
+ * Clients receive it as an opaque, URL-safe string and must not interpret it.
+ */
+record ChangeToken(Instant updatedAt, long id) {
+
+    static final ChangeToken INITIAL = new ChangeToken(Instant.EPOCH, 0L);
+
+    private static final String VERSION = "v1";
+
+    String encode() {
+        final String raw = VERSION + ":" + updatedAt.getEpochSecond() + ":" + updatedAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return INITIAL;
+        }
+
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final String[] parts = raw.split(":");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw InvalidChangeTokenException.malformed(token);
+            }
+
+            return new ChangeToken(
+                    Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2])),
+                    Long.parseLong(parts[3])
+            );
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw InvalidChangeTokenException.malformed(token);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.dominik.todolist.service;
+
+import com.dominik.todolist.config.TaskIdFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A bitmap of every task ID in the database, soft-deleted tasks included, so lookups of IDs that
+ * were never issued can be answered without a query.
+ *
+ * <p>The bitmap is loaded from the table at startup and topped up by periodic scans of new IDs,
+ * JPA inserts and purges. It only errs towards "maybe present": an ID is reported absent only if
+ * its bit is clear and it is settled. Every ID up to the highest one a scan saw was issued before
+ * that scan ended, so its transaction has committed or rolled back {@code max-transaction-ms}
+ * later; once a scan started after that point has covered the range, every such ID that exists
+ * is in the bitmap. Scans restart at the settled ID, so a row that commits late is picked up however
+ * many newer IDs were issued meanwhile. IDs above {@code max-tracked-id} are not tracked, which
+ * bounds the bitmap's memory; lookups of them always go to the database.
+ */
+@Component
+public class KnownTaskIdFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KnownTaskIdFilter.class);
+
+    /**
+     * The highest ID a scan saw, and when every transaction that could still commit an ID below it has ended.
+     */
+    private record Checkpoint(long highestId, long settledAtNanos) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskIdFilterProperties properties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BitSet knownIds = new BitSet();
+    private final Deque<Checkpoint> checkpoints = new ArrayDeque<>();
+    private final Counter rejectedLookups;
+    private final Counter passedLookups;
+    private final Counter falsePositives;
+    private long settledUpTo;
+    private volatile boolean ready;
+
+    public KnownTaskIdFilter(JdbcTemplate jdbcTemplate, TaskIdFilterProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.rejectedLookups = lookupCounter(meterRegistry, "rejected");
+        this.passedLookups = lookupCounter(meterRegistry, "passed");
+        this.falsePositives = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("task.id.filter.size", this, KnownTaskIdFilter::size)
+                .description("Task IDs known to the negative lookup filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return True if no task with this ID can exist, so the lookup can fail without a query.
+     */
+    public boolean isDefinitelyAbsent(Long taskId) {
+        if (!ready || taskId == null || taskId > properties.maxTrackedId()) {
+            return false;
+        }
+
+        final boolean absent;
+        lock.readLock().lock();
+        try {
+            absent = taskId < 1 || (!knownIds.get(taskId.intValue())
+                    && (properties.assumeSoleWriter() || taskId <= settledUpTo));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        (absent ? rejectedLookups : passedLookups).increment();
+        return absent;
+    }
+
+    /**
+     * Records that a lookup the filter let through found nothing in the database. For lookups of
+     * active tasks this includes soft-deleted tasks, which the filter knows about on purpose.
+     */
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositives.increment();
+        }
+    }
+
+    public void add(Long taskId) {
+        if (taskId == null || taskId < 1 || taskId > properties.maxTrackedId()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            knownIds.set(taskId.intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Clears the given IDs once the current transaction commits, or right away without one.
+     */
+    public void removeAfterCommit(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(taskIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(taskIds);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.enabled()) {
+            LOGGER.info("Negative task ID lookup filter is disabled.");
+            return;
+        }
+        refresh();
+        ready = true;
+        LOGGER.info("Negative task ID lookup filter loaded {} task IDs.", size());
+    }
+
+    /**
+     * Adds the IDs above the settled one, which includes any that committed late, and settles the
+     * checkpoints whose transactions all ended before this scan started.
+     */
+    @Scheduled(fixedDelayString = "${app.task.id-filter.refresh-interval-ms:30000}",
+            initialDelayString = "${app.task.id-filter.refresh-interval-ms:30000}")
+    public synchronized void refresh() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        final long scanStartedNanos = System.nanoTime();
+        final long from;
+        lock.readLock().lock();
+        try {
+            from = settledUpTo;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        final BitSet scanned = new BitSet();
+        final long[] highest = {from};
+        jdbcTemplate.query("SELECT id FROM tasks WHERE id > ?", row -> {
+            final long id = row.getLong(1);
+            if (id <= properties.maxTrackedId()) {
+                scanned.set((int) id);
+            }
+            highest[0] = Math.max(highest[0], id);
+        }, from);
+
+        lock.writeLock().lock();
+        try {
+            knownIds.or(scanned);
+            while (!checkpoints.isEmpty() && checkpoints.peekFirst().settledAtNanos() - scanStartedNanos <= 0) {
+                settledUpTo = Math.max(settledUpTo, checkpoints.pollFirst().highestId());
+            }
+            checkpoints.addLast(new Checkpoint(highest[0],
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.maxTransactionMs())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return knownIds.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void remove(Collection<Long> taskIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long taskId : taskIds) {
+                if (taskId > 0 && taskId <= properties.maxTrackedId()) {
+                    knownIds.clear(taskId.intValue());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("task.id.filter.lookups")
+                .description("Task lookups checked against the negative lookup filter")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
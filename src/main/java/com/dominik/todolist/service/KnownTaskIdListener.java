@@ -0,0 +1,23 @@
+package com.dominik.todolist.service;
+
+import com.dominik.todolist.model.Task;
+import jakarta.persistence.PostPersist;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds every task inserted through JPA to the {@link KnownTaskIdFilter}, whichever code path saved it.
+ */
+@Component
+public class KnownTaskIdListener {
+
+    private final KnownTaskIdFilter knownTaskIdFilter;
+
+    public KnownTaskIdListener(KnownTaskIdFilter knownTaskIdFilter) {
+        this.knownTaskIdFilter = knownTaskIdFilter;
+    }
+
+    @PostPersist
+    public void onTaskPersisted(Task task) {
+        knownTaskIdFilter.add(task.getId());
+    }
+}
@@ -1,7 +1,9 @@
 package com.dominik.todolist.service;
 
 import com.dominik.todolist.config.TaskCleanupProperties;
+import com.dominik.todolist.diagnostics.TaskPurgeChunkEvent;
 import com.dominik.todolist.repository.TaskRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -10,6 +12,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -19,15 +24,20 @@ public class TaskCleanupService {
 
     private final TaskRepository taskRepository;
     private final TaskCleanupProperties cleanupProperties;
+    private final KnownTaskIdFilter knownTaskIdFilter;
 
-    public TaskCleanupService(TaskRepository taskRepository, TaskCleanupProperties cleanupProperties) {
+    public TaskCleanupService(TaskRepository taskRepository,
+                              TaskCleanupProperties cleanupProperties,
+                              KnownTaskIdFilter knownTaskIdFilter) {
         this.taskRepository = taskRepository;
         this.cleanupProperties = cleanupProperties;
+        this.knownTaskIdFilter = knownTaskIdFilter;
         LOGGER.info("TaskCleanupService initialized with a retention period of {} days.",
                 cleanupProperties.retentionPeriodDays());
     }
 
     @Scheduled(cron = "0 0 2 * * ?")
+    @Observed(name = "task.cleanup", contextualName = "purge deleted tasks")
     public void purgeDeletedTasks() {
         LOGGER.info("Starting scheduled task: Purging old soft-deleted tasks.");
 
@@ -36,7 +46,24 @@ public class TaskCleanupService {
                 ChronoUnit.DAYS);
         LOGGER.debug("Calculated cutoff date for task purge: {}", cutoffDate);
 
-        final int purgedTaskCount = taskRepository.deleteTasksMarkedForDeletionBefore(cutoffDate);
+        final List<Long> candidateIds = taskRepository.findIdsMarkedForDeletionBefore(cutoffDate);
+        final int batchSize = cleanupProperties.purgeBatchSize();
+        final Set<Long> purgedIds = new HashSet<>();
+        int purgedTaskCount = 0;
+        for (int from = 0; from < candidateIds.size(); from += batchSize) {
+            final List<Long> chunk = candidateIds.subList(from, Math.min(from + batchSize, candidateIds.size()));
+            final var event = new TaskPurgeChunkEvent();
+            event.begin();
+            event.chunk = from / batchSize;
+            event.candidates = chunk.size();
+
+            event.purged = taskRepository.deleteTasksMarkedForDeletionBefore(chunk, cutoffDate);
+            purgedTaskCount += event.purged;
+            purgedIds.addAll(chunk);
+            taskRepository.findExistingIds(chunk).forEach(purgedIds::remove);
+            event.commit();
+        }
+        knownTaskIdFilter.removeAfterCommit(purgedIds);
 
         if (purgedTaskCount > 0) {
             LOGGER.info("Successfully purged {} old soft-deleted tasks.", purgedTaskCount);
@@ -0,0 +1,328 @@
+package com.dominik.todolist.service;
+
+import com.dominik.todolist.config.TaskCreateBatchProperties;
+import com.dominik.todolist.datasource.ReadYourWritesTracker;
+import com.dominik.todolist.diagnostics.TaskOperationEvent;
+import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.event.TaskChangeType;
+import com.dominik.todolist.event.TaskChangedEvent;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.model.Task;
+import com.dominik.todolist.model.TaskStatus;
+import com.dominik.todolist.repository.TaskRepository;
+import com.dominik.todolist.service.auth.AuthenticatedUserService;
+import com.dominik.todolist.web.RequestDeadline;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Group commit for task creation. Concurrent {@link #createTask} calls wait in a queue; a single flusher
+ * thread collects them for up to {@code window-ms}, or until {@code max-batch-size} have arrived, and
+ * inserts them with one multi-row statement in one transaction. Each caller blocks until its own task
+ * is committed and then gets its own response.
+ *
+ * <p>The insert bypasses JPA, so this class does what {@link TaskService#createTask} gets from Hibernate
+ * and the entity listeners: timestamps, the {@link KnownTaskIdFilter} entry and the change event.
+ * If a batch fails, for example because one owner was deleted meanwhile, its tasks are retried one
+ * transaction each so only the offending caller sees the error.
+ *
+ * <p>Callers wait no longer than their {@link RequestDeadline} for the flusher to claim their task. A
+ * task whose caller gave up first is not inserted; once claimed, the caller waits for the outcome, which
+ * the batch's transaction timeout bounds by the latest deadline among its callers.
+ * The flusher has no request or security context, so the callers record their own read-your-writes pin.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.task.create-batch", name = "enabled", havingValue = "true")
+public class TaskCreateBatcher implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskCreateBatcher.class);
+
+    /** Queued by {@link #stop()} to end the flusher once the tasks ahead of it are committed. */
+    private static final PendingCreate SHUTDOWN = new PendingCreate(null, null, null);
+
+    /**
+     * @param deadlineNanos {@link System#nanoTime()} at which the caller stops waiting, or null without a deadline.
+     */
+    private record PendingCreate(AppUser owner, CreateTaskRequest request, Long deadlineNanos,
+                                 CompletableFuture<TaskResponse> result, AtomicBoolean taken) {
+
+        PendingCreate(AppUser owner, CreateTaskRequest request, Long deadlineNanos) {
+            this(owner, request, deadlineNanos, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        /**
+         * Claims the task for insertion, or for abandonment by its caller; only one of the two succeeds.
+         */
+        boolean take() {
+            return taken.compareAndSet(false, true);
+        }
+    }
+
+    private final TaskCreateBatchProperties properties;
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final AuthenticatedUserService authenticatedUserService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KnownTaskIdFilter knownTaskIdFilter;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+    private final DistributionSummary batchSizes;
+    private final BlockingQueue<PendingCreate> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TaskCreateBatcher(TaskCreateBatchProperties properties,
+                             TaskRepository taskRepository,
+                             TaskService taskService,
+                             AuthenticatedUserService authenticatedUserService,
+                             ApplicationEventPublisher eventPublisher,
+                             KnownTaskIdFilter knownTaskIdFilter,
+                             PlatformTransactionManager transactionManager,
+                             ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.authenticatedUserService = authenticatedUserService;
+        this.eventPublisher = eventPublisher;
+        this.knownTaskIdFilter = knownTaskIdFilter;
+        this.transactionManager = transactionManager;
+        // Only present with app.datasource.routing.enabled=true.
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.batchSizes = DistributionSummary.builder("task.create.batch.size")
+                .description("Tasks inserted per group commit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates a task for the current user like {@link TaskService#createTask}, sharing the insert and
+     * commit with other callers that arrive within the same window.
+     */
+    @Observed(name = "task.create.batcher", contextualName = "create task batched")
+    public TaskResponse createTask(CreateTaskRequest taskRequest) {
+        final var owner = authenticatedUserService.getAuthenticatedUser();
+        final var remainingNanos = RequestDeadline.remainingNanos();
+        final Long deadlineNanos = remainingNanos.isPresent() ? System.nanoTime() + remainingNanos.getAsLong() : null;
+        final var pending = new PendingCreate(owner, taskRequest, deadlineNanos);
+        queue.add(pending);
+
+        // Queued after stop() drained the queue: nobody will flush it, so create it directly.
+        if (!running && queue.remove(pending)) {
+            return taskService.createTask(taskRequest);
+        }
+
+        final var response = TaskOperationEvent.record("create", null, event -> {
+            event.userId = owner.getId();
+            final var created = await(pending);
+            event.taskId = created.id();
+            return created;
+        });
+        readYourWritesTracker.ifAvailable(ReadYourWritesTracker::recordCommittedWrite);
+        return response;
+    }
+
+    private static TaskResponse await(PendingCreate pending) {
+        final var result = pending.result();
+        try {
+            if (pending.deadlineNanos() == null) {
+                return result.get();
+            }
+            return result.get(pending.deadlineNanos() - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Once the flusher has claimed the task it may commit it, so the caller waits for the outcome
+            // rather than reporting a timeout for a task that then exists and gets created again on retry.
+            if (pending.take()) {
+                throw new TransactionTimedOutException("Request deadline exceeded before the task was committed");
+            }
+            return awaitClaimed(result);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.take();
+            throw new IllegalStateException("Interrupted while waiting for the task to be committed", e);
+        }
+    }
+
+    private static TaskResponse awaitClaimed(CompletableFuture<TaskResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("task-create-batcher").daemon().start(this::flushLoop);
+        LOGGER.info("Batching task creation: up to {} tasks per commit, {} ms window.",
+                properties.maxBatchSize(), properties.windowMs());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        queue.add(SHUTDOWN);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        final List<PendingCreate> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.remove(SHUTDOWN);
+        for (int from = 0; from < remaining.size(); from += properties.maxBatchSize()) {
+            flush(remaining.subList(from, Math.min(remaining.size(), from + properties.maxBatchSize())));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushLoop() {
+        final List<PendingCreate> batch = new ArrayList<>(properties.maxBatchSize());
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                var next = queue.take();
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.windowMs());
+                while (next != SHUTDOWN) {
+                    batch.add(next);
+                    if (batch.size() == properties.maxBatchSize()) {
+                        break;
+                    }
+                    next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                }
+                stopping = next == SHUTDOWN;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopping = true;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Claims and inserts the tasks whose callers are still waiting. Never throws: every failure, errors
+     * included, completes the affected callers' futures so neither they nor the flusher are left hanging.
+     */
+    private void flush(List<PendingCreate> pendingCreates) {
+        final List<PendingCreate> batch = pendingCreates.stream()
+                .filter(PendingCreate::take)
+                .toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+        try {
+            complete(batch, transactionFor(batch).execute(status -> insert(batch)));
+        } catch (Throwable batchFailure) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(batchFailure);
+                return;
+            }
+            LOGGER.warn("Batch of {} tasks failed, retrying them one by one: {}", batch.size(), batchFailure.getMessage());
+            for (PendingCreate pending : batch) {
+                try {
+                    complete(List.of(pending), transactionFor(List.of(pending)).execute(status -> insert(List.of(pending))));
+                } catch (Throwable e) {
+                    pending.result().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The flusher thread has no request deadline of its own, so the transaction gets the latest of its callers'.
+     */
+    private TransactionTemplate transactionFor(List<PendingCreate> batch) {
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        if (batch.stream().allMatch(pending -> pending.deadlineNanos() != null)) {
+            final long remainingNanos = batch.stream()
+                    .mapToLong(pending -> pending.deadlineNanos() - System.nanoTime())
+                    .max()
+                    .orElseThrow();
+            transactionTemplate.setTimeout((int) Math.max(1, Math.min(Integer.MAX_VALUE,
+                    Math.ceilDiv(remainingNanos, TimeUnit.SECONDS.toNanos(1)))));
+        }
+        return transactionTemplate;
+    }
+
+    private List<TaskResponse> insert(List<PendingCreate> batch) {
+        // Truncated to what the database stores, so the responses match later reads.
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final List<Task> tasks = new ArrayList<>(batch.size());
+        for (PendingCreate pending : batch) {
+            tasks.add(Task.builder()
+                    .title(pending.request().title())
+                    .description(pending.request().description())
+                    .status(TaskStatus.TO_DO)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .appUser(pending.owner())
+                    .build());
+        }
+
+        final List<TaskResponse> responses = new ArrayList<>(batch.size());
+        for (Task task : taskRepository.insertAll(tasks)) {
+            knownTaskIdFilter.add(task.getId());
+            final var response = taskService.mapToTaskResponse(task);
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.CREATED, response));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private static void complete(List<PendingCreate> batch, List<TaskResponse> responses) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(responses.get(i));
+        }
+    }
+}
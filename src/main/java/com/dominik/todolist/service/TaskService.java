@@ -1,8 +1,18 @@
 package com.dominik.todolist.service;
 
+import com.dominik.todolist.config.TaskChangesProperties;
+import com.dominik.todolist.config.TaskCleanupProperties;
+import com.dominik.todolist.diagnostics.TaskOperationEvent;
 import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.dto.TaskChangeResponse;
+import com.dominik.todolist.dto.TaskChangesResponse;
+import com.dominik.todolist.dto.TaskField;
+import com.dominik.todolist.dto.TaskListResponse;
 import com.dominik.todolist.dto.TaskRequest;
 import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.event.TaskChangeType;
+import com.dominik.todolist.event.TaskChangedEvent;
+import com.dominik.todolist.exception.InvalidChangeTokenException;
 import com.dominik.todolist.exception.TaskConflictException;
 import com.dominik.todolist.exception.TaskNotFoundException;
 import com.dominik.todolist.exception.UserNotFoundException;
@@ -10,20 +20,48 @@ import com.dominik.todolist.model.Task;
 import com.dominik.todolist.model.TaskStatus;
 import com.dominik.todolist.repository.TaskRepository;
 import com.dominik.todolist.service.auth.AuthenticatedUserService;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.Tuple;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
+@Observed(name = "task.service")
 @Transactional
 public class TaskService {
+    static final int MAX_CHANGES_PER_CALL = 500;
+    static final int DESCRIPTION_PREVIEW_LENGTH = 100;
+    private static final Set<TaskField> OWNER_FIELDS = EnumSet.of(TaskField.USER_ID, TaskField.USER_EMAIL);
+
     private final TaskRepository taskRepository;
     private final AuthenticatedUserService authenticatedUserService;
+    private final TaskCleanupProperties cleanupProperties;
+    private final TaskChangesProperties changesProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KnownTaskIdFilter knownTaskIdFilter;
 
-    public TaskService(TaskRepository taskRepository, AuthenticatedUserService authenticatedUserService) {
+    public TaskService(TaskRepository taskRepository,
+                       AuthenticatedUserService authenticatedUserService,
+                       TaskCleanupProperties cleanupProperties,
+                       TaskChangesProperties changesProperties,
+                       ApplicationEventPublisher eventPublisher,
+                       KnownTaskIdFilter knownTaskIdFilter) {
         this.taskRepository = taskRepository;
         this.authenticatedUserService = authenticatedUserService;
+        this.cleanupProperties = cleanupProperties;
+        this.changesProperties = changesProperties;
+        this.eventPublisher = eventPublisher;
+        this.knownTaskIdFilter = knownTaskIdFilter;
     }
 
     /**
@@ -36,25 +74,163 @@ public class TaskService {
      */
     @Transactional
     public TaskResponse createTask(CreateTaskRequest taskRequest) {
-        final var appUser = authenticatedUserService.getAuthenticatedUser();
+        return TaskOperationEvent.record("create", null, event -> {
+            final var appUser = authenticatedUserService.getAuthenticatedUser();
+            event.userId = appUser.getId();
+
+            final var createdTask = mapToTaskResponse(taskRepository.save(
+                    Task.builder()
+                            .title(taskRequest.title())
+                            .description(taskRequest.description())
+                            .status(TaskStatus.TO_DO)
+                            .appUser(appUser)
+                            .build()
+            ));
+            event.taskId = createdTask.id();
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.CREATED, createdTask));
+            return createdTask;
+        });
+    }
+
+    /**
+     * Returns a page of the current user's tasks.
+     *
+     * @param preview If true, descriptions are cut to {@value #DESCRIPTION_PREVIEW_LENGTH} characters.
+     * @param fields  The item fields to read and return, or an empty set for all of them. The owner
+     *                fields are ignored because the list states the owner once.
+     */
+    @Transactional(readOnly = true)
+    public TaskListResponse getAllTasksForCurrentUser(TaskStatus status, Pageable pageable, boolean preview,
+                                                      Set<TaskField> fields) {
+        return TaskOperationEvent.record("list", null, event -> {
+            final var currentUser = authenticatedUserService.getAuthenticatedUser();
+            event.userId = currentUser.getId();
+            final Page<TaskListResponse.Item> taskPage;
+            if (fields.isEmpty()) {
+                taskPage = taskRepository.findByUserIdAndOptionalStatus(currentUser.getId(), status, pageable)
+                        .map(task -> mapToTaskListItem(task, preview));
+            } else {
+                final var itemFields = EnumSet.copyOf(fields);
+                itemFields.removeAll(OWNER_FIELDS);
+                taskPage = taskRepository.findFieldsByUserIdAndOptionalStatus(currentUser.getId(), status, itemFields, pageable)
+                        .map(row -> mapToTaskListItem(row, preview));
+            }
+            return new TaskListResponse(
+                    new TaskListResponse.Owner(currentUser.getId(), currentUser.getEmail()),
+                    taskPage.getContent(),
+                    new TaskListResponse.PageInfo(
+                            taskPage.getNumber(),
+                            taskPage.getSize(),
+                            taskPage.getTotalElements(),
+                            taskPage.getTotalPages())
+            );
+        });
+    }
+
+    /**
+     * Returns up to {@code limit} of the current user's tasks with an id above {@code afterId}, in id
+     * order. Callers walk all tasks by passing the last id they received, one short transaction per page.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getTasksAfterIdForCurrentUser(TaskStatus status, long afterId, int limit) {
+        return TaskOperationEvent.record("stream", null, event -> {
+            final var currentUserId = authenticatedUserService.getAuthenticatedUser().getId();
+            event.userId = currentUserId;
+            return taskRepository.findByUserIdAndOptionalStatusAfterId(
+                            currentUserId, status, afterId, PageRequest.ofSize(limit))
+                    .stream()
+                    .map(this::mapToTaskResponse)
+                    .toList();
+        });
+    }
+
+    /**
+     * Returns the current user's tasks that changed after the given watermark, including
+     * soft-deleted tasks as tombstones. Tombstones only live until the cleanup job purges them,
+     * so a watermark older than the retention period restarts the feed from the beginning.
+     * Changes younger than {@code app.task.changes.safety-lag-ms} are held back until a later call,
+     * so a transaction that commits late cannot slip in behind the returned watermark.
+     *
+     * @param since The opaque watermark returned by a previous call, or null for a full sync.
+     * @param limit The maximum number of changes to return, capped at {@value #MAX_CHANGES_PER_CALL}.
+     * @return The changes together with the watermark to use on the next call.
+     * @throws InvalidChangeTokenException if the watermark cannot be decoded.
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getChangesForCurrentUser(String since, int limit) {
+        return TaskOperationEvent.record("changes", null, event -> {
+            final var currentUserId = authenticatedUserService.getAuthenticatedUser().getId();
+            event.userId = currentUserId;
+            final int pageSize = Math.clamp(limit, 1, MAX_CHANGES_PER_CALL);
+
+            var token = ChangeToken.decode(since);
+            final var oldestTombstone = Instant.now().minus(cleanupProperties.retentionPeriodDays(), ChronoUnit.DAYS);
+            final boolean resetRequired = !token.equals(ChangeToken.INITIAL) && token.updatedAt().isBefore(oldestTombstone);
+            if (resetRequired) {
+                token = ChangeToken.INITIAL;
+            }
+
+            final var visibleBefore = Instant.now().minusMillis(changesProperties.safetyLagMs());
+            final List<Task> changedTasks = taskRepository.findChangesSince(
+                    currentUserId, token.updatedAt(), token.id(), visibleBefore, pageSize + 1);
+            final boolean hasMore = changedTasks.size() > pageSize;
+            final List<Task> page = hasMore ? changedTasks.subList(0, pageSize) : changedTasks;
+
+            final var nextToken = page.isEmpty()
+                    ? token
+                    : new ChangeToken(page.getLast().getUpdatedAt(), page.getLast().getId());
+
+            return new TaskChangesResponse(
+                    page.stream().map(this::mapToTaskChangeResponse).toList(),
+                    nextToken.encode(),
+                    hasMore,
+                    resetRequired
+            );
+        });
+    }
+
+    private TaskChangeResponse mapToTaskChangeResponse(Task task) {
+        if (task.isDeleted()) {
+            return new TaskChangeResponse(task.getId(), true, task.getUpdatedAt(), null);
+        }
+        return new TaskChangeResponse(task.getId(), false, task.getUpdatedAt(), mapToTaskResponse(task));
+    }
+
+    TaskListResponse.Item mapToTaskListItem(Task task, boolean preview) {
+        return new TaskListResponse.Item(
+                task.getId(),
+                task.getTitle(),
+                preview ? previewOf(task.getDescription()) : task.getDescription(),
+                task.getStatus(),
+                task.getCreatedAt(),
+                task.getUpdatedAt()
+        );
+    }
 
-        return mapToTaskResponse(taskRepository.save(
-                Task.builder()
-                        .title(taskRequest.title())
-                        .description(taskRequest.description())
-                        .status(TaskStatus.TO_DO)
-                        .appUser(appUser)
-                        .build()
-        ));
+    TaskListResponse.Item mapToTaskListItem(Tuple row, boolean preview) {
+        final String description = field(row, TaskField.DESCRIPTION, String.class);
+        return new TaskListResponse.Item(
+                field(row, TaskField.ID, Long.class),
+                field(row, TaskField.TITLE, String.class),
+                preview ? previewOf(description) : description,
+                field(row, TaskField.STATUS, TaskStatus.class),
+                field(row, TaskField.CREATED_AT, Instant.class),
+                field(row, TaskField.UPDATED_AT, Instant.class)
+        );
     }
 
-    public Page<TaskResponse> getAllTasksForCurrentUser(TaskStatus status, Pageable pageable) {
-        final var currentUserId = authenticatedUserService.getAuthenticatedUser().getId();
-        Page<Task> taskPage = taskRepository.findByUserIdAndOptionalStatus(currentUserId, status, pageable);
-        return taskPage.map(this::mapToTaskResponse);
+    static String previewOf(String description) {
+        if (description == null || description.length() <= DESCRIPTION_PREVIEW_LENGTH) {
+            return description;
+        }
+        int end = DESCRIPTION_PREVIEW_LENGTH - 1;
+        if (Character.isHighSurrogate(description.charAt(end - 1))) {
+            end--;
+        }
+        return description.substring(0, end) + "\u2026";
     }
 
-    private TaskResponse mapToTaskResponse(Task task) {
+    TaskResponse mapToTaskResponse(Task task) {
         return new TaskResponse(
                 task.getId(),
                 task.getTitle(),
@@ -67,44 +243,108 @@ public class TaskService {
         );
     }
 
+    TaskResponse mapToTaskResponse(Tuple row) {
+        return new TaskResponse(
+                field(row, TaskField.ID, Long.class),
+                field(row, TaskField.TITLE, String.class),
+                field(row, TaskField.DESCRIPTION, String.class),
+                field(row, TaskField.STATUS, TaskStatus.class),
+                field(row, TaskField.CREATED_AT, Instant.class),
+                field(row, TaskField.UPDATED_AT, Instant.class),
+                field(row, TaskField.USER_ID, Long.class),
+                field(row, TaskField.USER_EMAIL, String.class)
+        );
+    }
+
+    /**
+     * Returns the field's value, or null if it was not selected and so is left out of the response.
+     */
+    private static <T> T field(Tuple row, TaskField field, Class<T> type) {
+        for (var element : row.getElements()) {
+            if (field.jsonName().equals(element.getAlias())) {
+                return row.get(element.getAlias(), type);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param fields The fields to read and return, or an empty set for all of them.
+     */
     @Transactional(readOnly = true)
-    public TaskResponse getTaskByIdAndAppUser(Long taskId) {
-        final var task = findActiveTaskAndVerifyOwner(taskId);
-        return mapToTaskResponse(task);
+    public TaskResponse getTaskByIdAndAppUser(Long taskId, Set<TaskField> fields) {
+        return TaskOperationEvent.record("get", taskId, event -> {
+            if (fields.isEmpty()) {
+                final var task = findActiveTaskAndVerifyOwner(taskId);
+                event.userId = task.getAppUser().getId();
+                return mapToTaskResponse(task);
+            }
+            if (knownTaskIdFilter.isDefinitelyAbsent(taskId)) {
+                throw TaskNotFoundException.withId(taskId);
+            }
+            final var currentUserId = authenticatedUserService.getAuthenticatedUser().getId();
+            event.userId = currentUserId;
+            return taskRepository.findFieldsByIdAndUserId(taskId, currentUserId, fields)
+                    .map(this::mapToTaskResponse)
+                    .orElseThrow(() -> {
+                        // The query also misses other users' tasks, which are not false positives.
+                        if (!taskRepository.existsById(taskId)) {
+                            knownTaskIdFilter.recordFalsePositive();
+                        }
+                        return TaskNotFoundException.withId(taskId);
+                    });
+        });
     }
 
     @Transactional
     public TaskResponse updateTask(Long taskId, TaskRequest taskRequest) {
-        final var task = findActiveTaskAndVerifyOwner(taskId);
+        return TaskOperationEvent.record("update", taskId, event -> {
+            final var task = findActiveTaskAndVerifyOwner(taskId);
+            event.userId = task.getAppUser().getId();
 
-        if (taskRequest.title() != null && !taskRequest.title().isBlank()) {
-            task.setTitle(taskRequest.title());
-        }
+            if (taskRequest.title() != null && !taskRequest.title().isBlank()) {
+                task.setTitle(taskRequest.title());
+            }
 
-        if (taskRequest.description() != null && !taskRequest.description().isBlank()) {
-            task.setDescription(taskRequest.description());
-        }
+            if (taskRequest.description() != null && !taskRequest.description().isBlank()) {
+                task.setDescription(taskRequest.description());
+            }
 
-        if (taskRequest.status() != null) {
-            task.setStatus(taskRequest.status());
-        }
+            if (taskRequest.status() != null) {
+                task.setStatus(taskRequest.status());
+            }
 
-        return mapToTaskResponse(task);
+            final var updatedTask = mapToTaskResponse(task);
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.UPDATED, updatedTask));
+            return updatedTask;
+        });
     }
 
     @Transactional
     public void deleteTask(Long taskId) {
-        final var task = findActiveTaskAndVerifyOwner(taskId);
-        taskRepository.delete(task);
+        TaskOperationEvent.record("delete", taskId, event -> {
+            final var task = findActiveTaskAndVerifyOwner(taskId);
+            event.userId = task.getAppUser().getId();
+            // Stamped here rather than by the database so updated_at and the change feed use one clock.
+            task.setDeleted(true);
+            task.setDeletedAt(Instant.now());
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(task.getId(), task.getAppUser().getId()));
+            return null;
+        });
     }
 
     @Transactional
     public TaskResponse restoreTask(Long taskId) {
-        final var task = getAndVerifyDeletedTaskOwner(taskId);
+        return TaskOperationEvent.record("restore", taskId, event -> {
+            final var task = getAndVerifyDeletedTaskOwner(taskId);
+            event.userId = task.getAppUser().getId();
 
-        task.setDeleted(false);
+            task.setDeleted(false);
 
-        return mapToTaskResponse(task);
+            final var restoredTask = mapToTaskResponse(task);
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.RESTORED, restoredTask));
+            return restoredTask;
+        });
     }
 
     private Task getAndVerifyDeletedTaskOwner(Long taskId) {
@@ -118,9 +358,16 @@ public class TaskService {
     }
 
     private Task findActiveTaskAndVerifyOwner(Long taskId) {
+        if (knownTaskIdFilter.isDefinitelyAbsent(taskId)) {
+            throw TaskNotFoundException.withId(taskId);
+        }
+
         final var user = authenticatedUserService.getAuthenticatedUser();
         final var task = taskRepository.findById(taskId)
-                .orElseThrow(() -> TaskNotFoundException.withId(taskId));
+                .orElseThrow(() -> {
+                    knownTaskIdFilter.recordFalsePositive();
+                    return TaskNotFoundException.withId(taskId);
+                });
 
         if (!task.getAppUser().getId().equals(user.getId())) {
             throw TaskNotFoundException.withId(taskId);
@@ -129,9 +376,16 @@ public class TaskService {
     }
 
     private Task findAnyTaskAndVerifyOwner(Long taskId) {
+        if (knownTaskIdFilter.isDefinitelyAbsent(taskId)) {
+            throw TaskNotFoundException.withId(taskId);
+        }
+
         final var user = authenticatedUserService.getAuthenticatedUser();
         final var task = taskRepository.findByIdEvenIfDeleted(taskId)
-                .orElseThrow(() -> TaskNotFoundException.withId(taskId));
+                .orElseThrow(() -> {
+                    knownTaskIdFilter.recordFalsePositive();
+                    return TaskNotFoundException.withId(taskId);
+                });
 
         if (!task.getAppUser().getId().equals(user.getId())) {
             throw TaskNotFoundException.withId(taskId);
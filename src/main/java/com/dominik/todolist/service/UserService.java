@@ -4,6 +4,7 @@ import com.dominik.todolist.dto.RegisterRequest;
 import com.dominik.todolist.exception.EmailAlreadyExistsException;
 import com.dominik.todolist.model.AppUser;
 import com.dominik.todolist.repository.AppUserRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 
 @Service
+@Observed(name = "user.service")
 public class UserService implements UserDetailsService {
     private final AppUserRepository appUserRepository;
     private final PasswordEncoder passwordEncoder;
@@ -1,5 +1,6 @@
 package com.dominik.todolist.service.auth;
 
+import com.dominik.todolist.diagnostics.UserResolutionEvent;
 import com.dominik.todolist.model.AppUser;
 import com.dominik.todolist.repository.AppUserRepository;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -33,7 +34,15 @@ public class AuthenticatedUserServiceImpl implements AuthenticatedUserService {
             throw new IllegalStateException("Unexpected principal type: " + principal.getClass().getName());
         }
 
-        return appUserRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user '" + email + "' not found in database."));
+        final var event = new UserResolutionEvent();
+        event.begin();
+        try {
+            final var user = appUserRepository.findByEmail(email)
+                    .orElseThrow(() -> new IllegalStateException("Authenticated user '" + email + "' not found in database."));
+            event.userId = user.getId();
+            return user;
+        } finally {
+            event.commit();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.dominik.todolist.service.outbox;
+
+import com.dominik.todolist.config.OutboxProperties;
+import com.dominik.todolist.model.OutboxEvent;
+import com.dominik.todolist.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls the outbox and delivers due events in batches to every {@link OutboxEventHandler}.
+ * Delivered events are deleted; failed ones are retried with exponential backoff.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong lastDeliveryLagMillis = new AtomicLong();
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxEventHandler> handlers,
+                            OutboxProperties properties,
+                            PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void pollOutbox() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        int delivered;
+        do {
+            delivered = dispatchBatch();
+        } while (delivered == properties.batchSize());
+    }
+
+    /**
+     * Delivers one batch of due events in a single transaction.
+     *
+     * @return The number of events delivered successfully.
+     */
+    public int dispatchBatch() {
+        final Integer delivered = transactionTemplate.execute(status -> {
+            final var now = Instant.now();
+            final var batch = outboxEventRepository.findDueForDelivery(now, PageRequest.of(0, properties.batchSize()));
+            final List<OutboxEvent> deliveredEvents = new ArrayList<>(batch.size());
+
+            for (OutboxEvent event : batch) {
+                if (deliver(event, now)) {
+                    deliveredEvents.add(event);
+                    lastDeliveryLagMillis.set(Duration.between(event.getCreatedAt(), Instant.now()).toMillis());
+                }
+            }
+
+            outboxEventRepository.deleteAllInBatch(deliveredEvents);
+            return deliveredEvents.size();
+        });
+        return delivered != null ? delivered : 0;
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return Time between creation and delivery of the most recently delivered event.
+     */
+    public Duration getLastDeliveryLag() {
+        return Duration.ofMillis(lastDeliveryLagMillis.get());
+    }
+
+    /**
+     * @return Age of the oldest undelivered event, or zero if the outbox is empty.
+     */
+    public Duration getOldestPendingAge() {
+        final var oldest = outboxEventRepository.findOldestCreatedAt();
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, Instant.now());
+    }
+
+    public long getPendingCount() {
+        return outboxEventRepository.count();
+    }
+
+    private boolean deliver(OutboxEvent event, Instant now) {
+        final var message = OutboxMessage.from(event);
+        try {
+            for (OutboxEventHandler handler : handlers) {
+                if (handler.supports(message.aggregateType(), message.eventType())) {
+                    handler.handle(message);
+                }
+            }
+            deliveredCount.incrementAndGet();
+            return true;
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+            event.setLastError(truncate(e.toString()));
+            LOGGER.warn("Delivery of outbox event {} ({} {}) failed on attempt {}: {}",
+                    event.getId(), event.getAggregateType(), event.getEventType(), event.getAttempts(), e.getMessage());
+            return false;
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        final int exponent = Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(properties.initialBackoffMs() << exponent, properties.maxBackoffMs()));
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
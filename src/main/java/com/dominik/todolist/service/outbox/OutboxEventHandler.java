@@ -0,0 +1,15 @@
+package com.dominik.todolist.service.outbox;
+
+/**
+ * Receives outbox events from the {@link OutboxDispatcher}. Every handler bean is called for each
+ * event it supports. Delivery is at-least-once: if any handler throws, the event is retried for
+ * all handlers later, so handlers must be idempotent (the message id is stable across retries).
+ */
+public interface OutboxEventHandler {
+
+    default boolean supports(String aggregateType, String eventType) {
+        return true;
+    }
+
+    void handle(OutboxMessage message);
+}
@@ -0,0 +1,53 @@
+package com.dominik.todolist.service.outbox;
+
+import com.dominik.todolist.event.TaskChangedEvent;
+import com.dominik.todolist.model.OutboxEvent;
+import com.dominik.todolist.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Stores task events in the outbox table as part of the transaction that produced them,
+ * so an event is recorded if and only if the change itself commits.
+ */
+@Component
+public class OutboxEventWriter {
+
+    static final String TASK_AGGREGATE = "Task";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskChangedEvent event) {
+        outboxEventRepository.save(
+                OutboxEvent.builder()
+                        .aggregateType(TASK_AGGREGATE)
+                        .aggregateId(event.taskId())
+                        .eventType(event.type().name())
+                        .payload(toJson(event))
+                        .nextAttemptAt(Instant.now())
+                        .build()
+        );
+    }
+
+    private String toJson(TaskChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize task event for the outbox", e);
+        }
+    }
+}
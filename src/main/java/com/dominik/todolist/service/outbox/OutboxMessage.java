@@ -0,0 +1,30 @@
+package com.dominik.todolist.service.outbox;
+
+import com.dominik.todolist.model.OutboxEvent;
+
+import java.time.Instant;
+
+/**
+ * Read-only view of an outbox row handed to {@link OutboxEventHandler}s.
+ */
+public record OutboxMessage(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        String payload,
+        Instant createdAt,
+        int attempt
+) {
+    static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getEventType(),
+                event.getPayload(),
+                event.getCreatedAt(),
+                event.getAttempts() + 1
+        );
+    }
+}
@@ -0,0 +1,202 @@
+package com.dominik.todolist.service.stream;
+
+import com.dominik.todolist.config.TaskStreamProperties;
+import com.dominik.todolist.event.TaskChangedEvent;
+import com.dominik.todolist.service.auth.AuthenticatedUserService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes task changes to every open SSE connection of the task's owner. Events are only sent
+ * after the publishing transaction commits, so clients never see changes that were rolled back.
+ */
+@Service
+public class TaskChangeStreamService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeStreamService.class);
+
+    private final TaskStreamProperties properties;
+    private final AuthenticatedUserService authenticatedUserService;
+    private final ExecutorService senderExecutor;
+    private final ConcurrentMap<Long, Set<TaskStreamConnection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final AtomicLong evictedConnections = new AtomicLong();
+    private final AtomicLong closedConnections = new AtomicLong();
+
+    @Autowired
+    public TaskChangeStreamService(TaskStreamProperties properties,
+                                   AuthenticatedUserService authenticatedUserService,
+                                   Environment environment) {
+        this(properties, authenticatedUserService, Threading.VIRTUAL.isActive(environment)
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-stream-", 0).factory())
+                : Executors.newFixedThreadPool(properties.senderThreads(), senderThreadFactory()));
+    }
+
+    TaskChangeStreamService(TaskStreamProperties properties,
+                            AuthenticatedUserService authenticatedUserService,
+                            ExecutorService senderExecutor) {
+        this.properties = properties;
+        this.authenticatedUserService = authenticatedUserService;
+        this.senderExecutor = senderExecutor;
+    }
+
+    /**
+     * Opens a change stream for the authenticated user. When the user already has the maximum
+     * number of open streams, the oldest one is closed to make room.
+     *
+     * @return The emitter to return from the controller.
+     */
+    public SseEmitter subscribe() {
+        final var userId = authenticatedUserService.getAuthenticatedUser().getId();
+        final var emitter = new SseEmitter(properties.connectionTimeoutMs());
+        final var connection = new TaskStreamConnection(userId, emitter, properties.bufferSize(), senderExecutor);
+
+        final var connections = connectionsByUser.compute(userId, (id, current) -> {
+            final Set<TaskStreamConnection> updated = current != null ? current : new CopyOnWriteArraySet<>();
+            updated.add(connection);
+            return updated;
+        });
+        connections.stream()
+                .limit(Math.max(0, connections.size() - properties.maxConnectionsPerUser()))
+                .toList()
+                .forEach(oldest -> evict(oldest, "connection limit reached"));
+
+        emitter.onCompletion(() -> discard(connection));
+        emitter.onTimeout(() -> {
+            discard(connection);
+            connection.close();
+        });
+        emitter.onError(e -> discard(connection));
+
+        connection.offer(SseEmitter.event().comment("connected"));
+        LOGGER.debug("Opened task change stream for user {}.", userId);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        final var connections = connectionsByUser.get(event.userId());
+        if (connections == null) {
+            return;
+        }
+
+        for (TaskStreamConnection connection : connections) {
+            final var sseEvent = SseEmitter.event()
+                    .id(event.type() + "-" + event.taskId())
+                    .name(event.type().name().toLowerCase())
+                    .data(event, MediaType.APPLICATION_JSON);
+            if (!connection.offer(sseEvent)) {
+                rejected(connection, "buffer full");
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.task.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        connectionsByUser.values().forEach(connections -> connections.forEach(connection -> {
+            if (!connection.offer(SseEmitter.event().comment("heartbeat"))) {
+                rejected(connection, "heartbeat could not be buffered");
+            }
+        }));
+    }
+
+    /**
+     * Evicts connections whose client has stopped reading, so they do not hold a sender thread
+     * until the container's own write timeout.
+     */
+    @Scheduled(fixedDelayString = "${app.task.stream.send-timeout-ms:10000}")
+    public void evictStalledConnections() {
+        final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.sendTimeoutMs());
+        connectionsByUser.values().forEach(connections -> connections.forEach(connection -> {
+            if (connection.isSendStalled(timeoutNanos)) {
+                if (remove(connection)) {
+                    evictedConnections.incrementAndGet();
+                    LOGGER.info("Evicting task change stream of user {}: send timed out.", connection.userId());
+                }
+                connection.abort();
+            }
+        }));
+    }
+
+    public int getOpenConnectionCount() {
+        return connectionsByUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public long getEvictedConnectionCount() {
+        return evictedConnections.get();
+    }
+
+    /**
+     * Connections that ended on their own: the client disconnected or the connection timed out.
+     */
+    public long getClosedConnectionCount() {
+        return closedConnections.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionsByUser.values().forEach(connections -> connections.forEach(TaskStreamConnection::close));
+        connectionsByUser.clear();
+        senderExecutor.shutdownNow();
+    }
+
+    private void evict(TaskStreamConnection connection, String reason) {
+        if (remove(connection)) {
+            evictedConnections.incrementAndGet();
+            LOGGER.info("Evicting task change stream of user {}: {}.", connection.userId(), reason);
+        }
+        connection.close();
+    }
+
+    /**
+     * An event could not be queued: either the client is gone, which is not an eviction, or it fell behind.
+     */
+    private void rejected(TaskStreamConnection connection, String reason) {
+        if (connection.isClosed()) {
+            discard(connection);
+        } else {
+            evict(connection, reason);
+        }
+    }
+
+    private void discard(TaskStreamConnection connection) {
+        if (remove(connection)) {
+            closedConnections.incrementAndGet();
+        }
+    }
+
+    private boolean remove(TaskStreamConnection connection) {
+        final var removed = new AtomicBoolean();
+        connectionsByUser.computeIfPresent(connection.userId(), (id, connections) -> {
+            removed.set(connections.remove(connection));
+            return connections.isEmpty() ? null : connections;
+        });
+        return removed.get();
+    }
+
+    private static CustomizableThreadFactory senderThreadFactory() {
+        final var threadFactory = new CustomizableThreadFactory("task-stream-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
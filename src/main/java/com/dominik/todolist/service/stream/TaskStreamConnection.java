@@ -0,0 +1,138 @@
+package com.dominik.todolist.service.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open SSE connection. Events are queued in a bounded buffer and written by a sender thread,
+ * so a slow client never blocks the thread that published the change. When the buffer is full,
+ * {@link #offer} returns false and the caller evicts the connection. A client that stops reading
+ * altogether blocks its sender thread inside {@code send}; {@link #isSendStalled} reports that so
+ * the connection can be {@linkplain #abort aborted}.
+ */
+final class TaskStreamConnection {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    private final Executor senderExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Thread sender;
+    private volatile boolean sending;
+    private volatile long sendStartedNanos;
+
+    TaskStreamConnection(Long userId, SseEmitter emitter, int bufferSize, Executor senderExecutor) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.senderExecutor = senderExecutor;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed.get() || !buffer.offer(event)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            complete(null);
+        }
+    }
+
+    /**
+     * True if a single write has been waiting on the client for longer than the timeout.
+     */
+    boolean isSendStalled(long timeoutNanos) {
+        return sending && System.nanoTime() - sendStartedNanos > timeoutNanos;
+    }
+
+    /**
+     * Gives up on a client that stopped reading: drops the buffer and interrupts the blocked write.
+     */
+    void abort() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            final var blockedSender = sender;
+            if (blockedSender != null) {
+                blockedSender.interrupt();
+            }
+            complete(new TimeoutException("Client stopped reading the change stream"));
+        }
+    }
+
+    /**
+     * The emitter shares a lock with {@code send}, so while a write is blocked it is completed on a
+     * thread of its own instead of stalling the caller.
+     */
+    private void complete(Throwable failure) {
+        final Runnable completion = failure == null ? emitter::complete : () -> emitter.completeWithError(failure);
+        if (sending) {
+            Thread.ofVirtual().name("task-stream-close").start(completion);
+        } else {
+            completion.run();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                senderExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+    }
+
+    private void drain() {
+        sender = Thread.currentThread();
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = buffer.poll()) != null) {
+                sendStartedNanos = System.nanoTime();
+                sending = true;
+                emitter.send(event);
+                sending = false;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed.
+            if (closed.compareAndSet(false, true)) {
+                buffer.clear();
+                emitter.completeWithError(e);
+            }
+        } finally {
+            sending = false;
+            sender = null;
+            draining.set(false);
+        }
+
+        // An event may have been queued after the loop saw an empty buffer but before draining was reset.
+        if (!closed.get() && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.dominik.todolist.service.warmup;
+
+import com.dominik.todolist.config.WarmUpProperties;
+import com.dominik.todolist.dto.TaskField;
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.model.Task;
+import com.dominik.todolist.model.TaskStatus;
+import com.dominik.todolist.repository.AppUserRepository;
+import com.dominik.todolist.repository.TaskRepository;
+import com.dominik.todolist.security.JwtUtil;
+import com.dominik.todolist.service.KnownTaskIdFilter;
+import com.dominik.todolist.service.TaskService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NativeDetector;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Drives the request hot paths in-process before the application reports itself ready, so the first
+ * real requests run compiled code: JWT signing and verification, the {@link TaskService} list and get
+ * mappings and the JSON serializers.
+ *
+ * <p>Spring Boot switches readiness to {@code ACCEPTING_TRAFFIC} only after every {@link ApplicationRunner}
+ * has returned, so the pod receives no traffic until this finishes. Each call runs in its own transaction,
+ * as it would for a request. Only read paths are warmed up: the calls act as a throwaway user whose tasks
+ * are inserted directly beforehand, so no change events or outbox rows exist for them, and the user and
+ * tasks are deleted again at the end.
+ *
+ * <p>A native image is compiled ahead of time and has no JIT to warm up. Its bean conditions are fixed at
+ * build time on a JVM, so the check happens when the runner is called.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JitWarmUpRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JitWarmUpRunner.class);
+    private static final Set<TaskField> SPARSE_FIELDS = EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.STATUS);
+
+    private final WarmUpProperties properties;
+    private final TaskService taskService;
+    private final AppUserRepository appUserRepository;
+    private final TaskRepository taskRepository;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final KnownTaskIdFilter knownTaskIdFilter;
+    private final TransactionTemplate transactionTemplate;
+
+    public JitWarmUpRunner(WarmUpProperties properties,
+                           TaskService taskService,
+                           AppUserRepository appUserRepository,
+                           TaskRepository taskRepository,
+                           JwtUtil jwtUtil,
+                           ObjectMapper objectMapper,
+                           JdbcTemplate jdbcTemplate,
+                           KnownTaskIdFilter knownTaskIdFilter,
+                           PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.taskService = taskService;
+        this.appUserRepository = appUserRepository;
+        this.taskRepository = taskRepository;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.knownTaskIdFilter = knownTaskIdFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (NativeDetector.inNativeImage()) {
+            LOGGER.info("Skipping JIT warm-up: a native image is compiled ahead of time.");
+            return;
+        }
+        warmUp();
+    }
+
+    /**
+     * @return The number of rounds completed, or 0 if the warm-up failed.
+     */
+    int warmUp() {
+        final long start = System.nanoTime();
+        final long deadline = start + properties.timeoutSeconds() * 1_000_000_000L;
+        final String email = "warmup-" + UUID.randomUUID() + "@warmup.invalid";
+        final var previousContext = SecurityContextHolder.getContext();
+        final List<Long> taskIds = new ArrayList<>(properties.tasks());
+        Long userId = null;
+        int completed;
+        try {
+            final var user = transactionTemplate.execute(status -> appUserRepository.save(AppUser.builder()
+                    .name("JIT warm-up")
+                    .email(email)
+                    .password("unusable")
+                    .build()));
+            userId = user.getId();
+            taskIds.addAll(insertTasks(user));
+            completed = runRounds(email, taskIds, deadline);
+        } catch (RuntimeException e) {
+            // A failed warm-up only costs latency; the application must still become ready.
+            LOGGER.warn("JIT warm-up failed, continuing startup without it.", e);
+            return 0;
+        } finally {
+            SecurityContextHolder.setContext(previousContext);
+            if (userId != null) {
+                deleteUserAndTasks(userId, taskIds);
+            }
+        }
+
+        final long millis = (System.nanoTime() - start) / 1_000_000;
+        if (completed < properties.iterations()) {
+            LOGGER.warn("JIT warm-up stopped after {} of {} rounds at the {} s limit.",
+                    completed, properties.iterations(), properties.timeoutSeconds());
+        } else {
+            LOGGER.info("JIT warm-up finished {} rounds in {} ms.", completed, millis);
+        }
+        return completed;
+    }
+
+    /**
+     * Inserts the tasks the rounds read without going through {@link TaskService#createTask}, which would
+     * publish change events and write outbox rows that handlers could act on before they are deleted.
+     */
+    private List<Long> insertTasks(AppUser user) {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final List<Task> tasks = new ArrayList<>(properties.tasks());
+        for (int i = 0; i < properties.tasks(); i++) {
+            tasks.add(Task.builder()
+                    .title("Warm-up task " + i)
+                    .description("Created while warming up the JIT compiler.")
+                    .status(TaskStatus.TO_DO)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .appUser(user)
+                    .build());
+        }
+
+        final List<Long> taskIds = transactionTemplate.execute(status ->
+                taskRepository.insertAll(tasks).stream().map(Task::getId).toList());
+        taskIds.forEach(knownTaskIdFilter::add);
+        return taskIds;
+    }
+
+    private int runRounds(String email, List<Long> taskIds, long deadline) {
+        final UserDetails user = User.withUsername(email).password("unusable").authorities(List.of()).build();
+        final var context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+
+        final var page = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        for (int i = 0; i < properties.iterations(); i++) {
+            if (System.nanoTime() > deadline) {
+                return i;
+            }
+            final String token = jwtUtil.generateToken(user);
+            if (!Boolean.TRUE.equals(jwtUtil.isTokenValid(token, user))) {
+                throw new IllegalStateException("Warm-up token did not verify");
+            }
+
+            final boolean sparse = i % 4 == 3;
+            final var list = taskService.getAllTasksForCurrentUser(
+                    null, page, i % 2 == 0, sparse ? SPARSE_FIELDS : Set.of());
+            final TaskResponse task = taskService.getTaskByIdAndAppUser(
+                    taskIds.get(i % taskIds.size()), sparse ? SPARSE_FIELDS : Set.of());
+
+            try {
+                objectMapper.writeValueAsBytes(list);
+                objectMapper.writeValueAsBytes(task);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Warm-up response could not be serialized", e);
+            }
+        }
+        return properties.iterations();
+    }
+
+    /**
+     * Removes every row the warm-up left: its tasks and the user.
+     */
+    private void deleteUserAndTasks(Long userId, List<Long> taskIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM tasks WHERE user_id = ?", userId);
+                jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+                knownTaskIdFilter.removeAfterCommit(taskIds);
+            });
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not delete the JIT warm-up user {} and its tasks.", userId, e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.dominik.todolist.web;
+
+import com.dominik.todolist.config.LoadSheddingProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An AIMD concurrency limit. Every request that finishes within the latency threshold while the
+ * limit is being used raises the limit by one over the course of a full window; a slower request
+ * multiplies it by the backoff ratio, at most once per round trip: requests admitted before the
+ * last backoff saw the old load and do not back off again. When the database slows down, latency
+ * rises, the limit shrinks towards what the database can actually serve, and the surplus is
+ * rejected immediately instead of queueing for a connection.
+ *
+ * <p>Auth requests take part in admission but not in adjusting the limit: BCrypt is deliberately
+ * slow and CPU-bound, so its latency says nothing about the database. The limit is kept in an
+ * atomic and updated without locking.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<RequestPriority, LongAdder> rejected = new EnumMap<>(RequestPriority.class);
+    /** The limit as {@link Double#doubleToLongBits} so it can be updated with compare-and-set. */
+    private final AtomicLong limitBits;
+    private final AtomicLong lastBackoffNanos = new AtomicLong(NEVER);
+
+    public AdaptiveConcurrencyLimiter(LoadSheddingProperties properties) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = Math.max(properties.minLimit(), properties.maxLimit());
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.latencyThresholdMs());
+        this.backoffRatio = properties.backoffRatio();
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(Math.clamp(properties.initialLimit(), minLimit, maxLimit)));
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    /**
+     * @return True if the request may proceed; it must then call {@link #release} exactly once.
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        final int allowed = Math.max(1, (int) (limit() * priority.shareOfLimit()));
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param priority   The priority the request was admitted with.
+     * @param startNanos {@link System#nanoTime()} when the request was admitted.
+     * @param endNanos   {@link System#nanoTime()} when it finished.
+     */
+    public void release(RequestPriority priority, long startNanos, long endNanos) {
+        final int inFlightBefore = inFlight.getAndDecrement();
+        if (priority == RequestPriority.AUTH) {
+            return;
+        }
+
+        if (endNanos - startNanos > latencyThresholdNanos) {
+            final long lastBackoff = lastBackoffNanos.get();
+            if ((lastBackoff == NEVER || startNanos - lastBackoff >= 0)
+                    && lastBackoffNanos.compareAndSet(lastBackoff, endNanos)) {
+                updateLimit(limit -> Math.max(minLimit, limit * backoffRatio));
+            }
+        } else if (inFlightBefore * 2 >= limit()) {
+            // Only grow while the limit is actually being used, or an idle service drifts to the maximum.
+            updateLimit(limit -> Math.min(maxLimit, limit + 1.0 / limit));
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount(RequestPriority priority) {
+        return rejected.get(priority).sum();
+    }
+
+    private double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    private void updateLimit(DoubleUnaryOperator update) {
+        limitBits.getAndUpdate(bits -> Double.doubleToLongBits(update.applyAsDouble(Double.longBitsToDouble(bits))));
+    }
+}
@@ -0,0 +1,80 @@
+package com.dominik.todolist.web;
+
+import com.dominik.todolist.exception.handler.ProblemDetailWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Admits requests through an {@link AdaptiveConcurrencyLimiter} and answers the rest with an
+ * immediate 503. Health checks, metrics scrapes and the long-lived change stream are not limited.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, int retryAfterSeconds) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        final String path = request.getRequestURI();
+        return path.startsWith("/actuator/") || path.equals("/api/tasks/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        final var priority = classify(request);
+        if (!limiter.tryAcquire(priority)) {
+            log.debug("Shedding {} request {} {} at limit {}.",
+                    priority, request.getMethod(), request.getRequestURI(), limiter.getLimit());
+            reject(request, response);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(priority, start, System.nanoTime());
+        }
+    }
+
+    static RequestPriority classify(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/api/auth/")) {
+            return RequestPriority.AUTH;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> RequestPriority.READ;
+            default -> RequestPriority.WRITE;
+        };
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        final var problem = ProblemDetailWriter.write(HttpStatus.SERVICE_UNAVAILABLE,
+                "The server is overloaded. Retry later.", request.getRequestURI());
+        response.setStatus(problem.getStatusCode().value());
+        response.setContentType(String.valueOf(problem.getHeaders().getContentType()));
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.getOutputStream().write(problem.getBody());
+    }
+}
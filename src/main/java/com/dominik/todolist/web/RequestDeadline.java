@@ -0,0 +1,63 @@
+package com.dominik.todolist.web;
+
+import java.util.OptionalLong;
+
+/**
+ * The point in time after which the current request's client is no longer waiting for an answer.
+ * Set by {@link RequestDeadlineFilter} for the thread handling the request, or around gRPC call callbacks
+ * with the client's deadline, and read by the
+ * transaction manager and the data source to bound transactions and statements.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * @return Nanoseconds left until the deadline, negative once it has passed, or empty if the
+     * current thread is not serving a request with a deadline.
+     */
+    public static OptionalLong remainingNanos() {
+        final Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? OptionalLong.empty() : OptionalLong.of(deadline - System.nanoTime());
+    }
+
+    /**
+     * @return Whole seconds left, rounded up, as JDBC and transaction timeouts expect; empty if there is no deadline.
+     */
+    public static OptionalLong remainingSeconds() {
+        final var remaining = remainingNanos();
+        if (remaining.isEmpty()) {
+            return remaining;
+        }
+        return OptionalLong.of(Math.ceilDiv(remaining.getAsLong(), 1_000_000_000L));
+    }
+
+    /**
+     * Runs the action under the given deadline on the current thread, for work that does not pass
+     * {@link RequestDeadlineFilter}, such as gRPC calls. The previous deadline is restored afterwards.
+     */
+    public static void runWithin(long deadlineNanos, Runnable action) {
+        final Long previous = DEADLINE_NANOS.get();
+        DEADLINE_NANOS.set(deadlineNanos);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                clear();
+            } else {
+                set(previous);
+            }
+        }
+    }
+
+    static void set(long deadlineNanos) {
+        DEADLINE_NANOS.set(deadlineNanos);
+    }
+
+    static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+}
@@ -0,0 +1,110 @@
+package com.dominik.todolist.web;
+
+import com.dominik.todolist.config.RequestDeadlineProperties;
+import com.dominik.todolist.exception.handler.ProblemDetailWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.sql.SQLTimeoutException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts each request's {@link RequestDeadline}: the client's {@code X-Request-Timeout} in
+ * milliseconds if given, otherwise the default for the endpoint, never more than the configured
+ * maximum. The change stream and actuator endpoints run without a deadline.
+ *
+ * <p>The filter runs ahead of the security filter chain, so a deadline can also expire in a filter,
+ * for example during the JWT filter's user lookup. Such failures never reach the controller advice,
+ * so this filter answers them with the same 504 problem instead of leaving them to the container.
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestDeadlineFilter.class);
+
+    private final RequestDeadlineProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RequestDeadlineFilter(RequestDeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        final String path = request.getRequestURI();
+        return path.startsWith("/actuator/") || path.equals("/api/tasks/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        final long timeoutMs = Math.min(timeoutMs(request), properties.maxTimeoutMs());
+        RequestDeadline.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+        try {
+            filterChain.doFilter(request, response);
+        } catch (RuntimeException | ServletException e) {
+            if (!isDeadlineExceeded(e) || response.isCommitted()) {
+                throw e;
+            }
+            log.warn("Request deadline exceeded before the controller: Request URI: {} - Message: {}",
+                    request.getRequestURI(), e.getMessage());
+            writeDeadlineExceeded(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private static boolean isDeadlineExceeded(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransactionTimedOutException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof SQLTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeDeadlineExceeded(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        final var problem = ProblemDetailWriter.write(HttpStatus.GATEWAY_TIMEOUT,
+                "The request did not complete within its deadline.", request.getRequestURI());
+        response.resetBuffer();
+        response.setStatus(problem.getStatusCode().value());
+        response.setContentType(String.valueOf(problem.getHeaders().getContentType()));
+        response.getOutputStream().write(problem.getBody());
+    }
+
+    long timeoutMs(HttpServletRequest request) {
+        final String header = request.getHeader(properties.headerName());
+        if (header != null) {
+            try {
+                return Math.max(0, Long.parseLong(header.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed {} header: {}", properties.headerName(), header);
+            }
+        }
+
+        final String path = request.getRequestURI();
+        for (Map.Entry<String, Long> endpoint : properties.endpointTimeoutsMs().entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return properties.defaultTimeoutMs();
+    }
+}
@@ -0,0 +1,21 @@
+package com.dominik.todolist.web;
+
+/**
+ * How much of the concurrency limit a class of request may use. Lower priorities are turned away
+ * first, which keeps headroom for logins and writes while reads are being shed.
+ */
+public enum RequestPriority {
+    AUTH(1.0),
+    WRITE(0.9),
+    READ(0.75);
+
+    private final double shareOfLimit;
+
+    RequestPriority(double shareOfLimit) {
+        this.shareOfLimit = shareOfLimit;
+    }
+
+    double shareOfLimit() {
+        return shareOfLimit;
+    }
+}
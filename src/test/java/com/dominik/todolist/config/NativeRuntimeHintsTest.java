@@ -0,0 +1,53 @@
+package com.dominik.todolist.config;
+
+import com.dominik.todolist.event.TaskChangedEvent;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("JJWT implementations loaded by name can be instantiated")
+    void registersJjwtImplementations() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.jackson.io.JacksonSerializer"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer")
+                .test(hints));
+    }
+
+    @Test
+    @DisplayName("Entities, cleanup properties and event payloads are reflectively accessible")
+    void registersApplicationTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(Task.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AppUser.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TaskCleanupProperties.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TaskChangedEvent.class).test(hints));
+    }
+}
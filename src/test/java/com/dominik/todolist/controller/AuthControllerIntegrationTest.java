@@ -5,6 +5,7 @@ import com.dominik.todolist.dto.RegisterRequest;
 import com.dominik.todolist.model.AppUser;
 import com.dominik.todolist.repository.AppUserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.dominik.todolist.support.SqlStatementCounter.assertStatementBudget;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -37,6 +39,9 @@ public class AuthControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("POST /api/auth/register - Success")
     void whenRegisterWithValidData_thenReturns201AndToken() throws Exception {
@@ -115,7 +120,7 @@ public class AuthControllerIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isUnauthorized())
-                .andExpect(jsonPath("$.message", is("Invalid email or password")));
+                .andExpect(jsonPath("$.detail", is("Invalid email or password")));
     }
 
     @Test
@@ -140,4 +145,29 @@ public class AuthControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").isNotEmpty());
     }
+
+    @Test
+    @DisplayName("Statement budget - Register and log in")
+    void whenRegisteringAndLoggingIn_thenStaysWithinStatementBudget() throws Exception {
+        final var registerRequest = new RegisterRequest(
+                "Budget User",
+                "budget.user@example.com",
+                "password123"
+        );
+
+        // Email check, user insert and the user lookup for the token.
+        assertStatementBudget(3, "POST /api/auth/register", entityManager, () ->
+                mockMvc.perform(post("/api/auth/register")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(registerRequest)))
+                        .andExpect(status().isCreated()));
+
+        // A single user lookup; the tasks collection must stay unloaded.
+        assertStatementBudget(1, "POST /api/auth/login", entityManager, () ->
+                mockMvc.perform(post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                        new LoginRequest("budget.user@example.com", "password123"))))
+                        .andExpect(status().isOk()));
+    }
 }
@@ -0,0 +1,125 @@
+package com.dominik.todolist.controller;
+
+import com.dominik.todolist.dto.AuthResponse;
+import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.dto.LoginRequest;
+import com.dominik.todolist.dto.RegisterRequest;
+import com.dominik.todolist.dto.TaskListResponse;
+import com.dominik.todolist.dto.TaskRequest;
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.model.TaskStatus;
+import com.dominik.todolist.web.MessagePackHttpMessageConverter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+public class BinaryFormatsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("CBOR - Requests and responses round-trip like JSON")
+    void whenUsingCbor_thenPayloadsMatchJson() throws Exception {
+        assertRoundTripsLikeJson(MediaType.APPLICATION_CBOR, new CBORFactory());
+    }
+
+    @Test
+    @DisplayName("Smile - Requests and responses round-trip like JSON")
+    void whenUsingSmile_thenPayloadsMatchJson() throws Exception {
+        assertRoundTripsLikeJson(MediaType.valueOf("application/x-jackson-smile"), new SmileFactory());
+    }
+
+    @Test
+    @DisplayName("MessagePack - Requests and responses round-trip like JSON")
+    void whenUsingMessagePack_thenPayloadsMatchJson() throws Exception {
+        assertRoundTripsLikeJson(MessagePackHttpMessageConverter.APPLICATION_MSGPACK, new MessagePackFactory());
+    }
+
+    @Test
+    @DisplayName("Content negotiation - Clients accepting anything still get JSON")
+    void whenAcceptingAnything_thenRespondsWithJson() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.ALL)
+                        .content(objectMapper.writeValueAsBytes(
+                                new RegisterRequest("Any Client", "any.client@example.com", "password123"))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private void assertRoundTripsLikeJson(MediaType mediaType, JsonFactory factory) throws Exception {
+        final var binaryMapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        final var email = mediaType.getSubtype() + ".client@example.com";
+
+        binary(post("/api/auth/register"), mediaType, binaryMapper,
+                new RegisterRequest("Binary Client", email, "password123"), 201);
+        final var auth = binaryMapper.readValue(binary(post("/api/auth/login"), mediaType, binaryMapper,
+                new LoginRequest(email, "password123"), 200), AuthResponse.class);
+        assertFalse(auth.token().isBlank());
+        final var bearer = "Bearer " + auth.token();
+
+        final var created = binaryMapper.readValue(binary(post("/api/tasks").header(HttpHeaders.AUTHORIZATION, bearer),
+                mediaType, binaryMapper, new CreateTaskRequest("Binary task", "Zażółć gęślą jaźń 😀"), 201), TaskResponse.class);
+        final var updated = binaryMapper.readValue(binary(put("/api/tasks/{id}", created.id()).header(HttpHeaders.AUTHORIZATION, bearer),
+                mediaType, binaryMapper, new TaskRequest(null, null, TaskStatus.IN_PROGRESS), 200), TaskResponse.class);
+        assertEquals(TaskStatus.IN_PROGRESS, updated.status());
+        assertEquals("Zażółć gęślą jaźń 😀", updated.description());
+
+        assertEquals(
+                objectMapper.readValue(fetch("/api/tasks/" + created.id(), MediaType.APPLICATION_JSON, bearer), TaskResponse.class),
+                binaryMapper.readValue(fetch("/api/tasks/" + created.id(), mediaType, bearer), TaskResponse.class));
+        assertEquals(
+                objectMapper.readValue(fetch("/api/tasks", MediaType.APPLICATION_JSON, bearer), TaskListResponse.class),
+                binaryMapper.readValue(fetch("/api/tasks", mediaType, bearer), TaskListResponse.class));
+    }
+
+    private byte[] binary(MockHttpServletRequestBuilder request, MediaType mediaType, ObjectMapper binaryMapper,
+                          Object body, int expectedStatus) throws Exception {
+        return mockMvc.perform(request
+                        .contentType(mediaType)
+                        .accept(mediaType)
+                        .content(binaryMapper.writeValueAsBytes(body)))
+                .andExpect(status().is(expectedStatus))
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private byte[] fetch(String path, MediaType mediaType, String bearer) throws Exception {
+        return mockMvc.perform(get(path)
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
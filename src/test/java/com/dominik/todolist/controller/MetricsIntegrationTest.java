@@ -0,0 +1,85 @@
+package com.dominik.todolist.controller;
+
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.repository.AppUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.diagnostics.profiling.admin-emails=metrics.user@example.com")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@Transactional
+@ActiveProfiles("test")
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        appUserRepository.save(AppUser.builder()
+                .email("metrics.user@example.com")
+                .name("Metrics User")
+                .password(passwordEncoder.encode("password"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Exposes request, service and repository timings")
+    @WithMockUser("metrics.user@example.com")
+    void whenScrapingPrometheus_thenReturnsLayerTimings() throws Exception {
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("task_service_seconds_count")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_count")))
+                .andExpect(content().string(containsString("auth_password_hash_seconds_count")))
+                .andExpect(content().string(containsString("hikaricp_connections_max")));
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Requires authentication")
+    void whenScrapingPrometheusAnonymously_thenReturns403() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Is refused to users who are not admins")
+    @WithMockUser("someone.else@example.com")
+    void whenScrapingPrometheusAsNonAdmin_thenReturns403() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/health - Is reachable without authentication")
+    void whenCheckingHealth_thenReturns200() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
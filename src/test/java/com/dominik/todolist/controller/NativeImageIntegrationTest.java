@@ -0,0 +1,90 @@
+package com.dominik.todolist.controller;
+
+import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.dto.LoginRequest;
+import com.dominik.todolist.dto.RegisterRequest;
+import com.dominik.todolist.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs on the JVM with the other tests and, via {@code ./gradlew nativeTest -PnativeBuild}, inside a native image.
+ * Covers the reflective paths: JJWT signing and parsing, Hibernate entity mapping and Jackson request binding.
+ */
+@Tag("native")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@Transactional
+@ImportRuntimeHints(NativeImageIntegrationTest.TestHints.class)
+public class NativeImageIntegrationTest {
+
+    static class TestHints implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Instantiated by Hibernate from the statement_inspector property in the test application.properties.
+            hints.reflection().registerType(SqlStatementCounter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Register, log in, then create, fetch and list a task with the issued token")
+    void whenUsingIssuedToken_thenTaskRoundTripSucceeds() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RegisterRequest("Native User", "native.user@example.com", "password123"))))
+                .andExpect(status().isCreated());
+
+        final var login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("native.user@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        final String authorization = "Bearer " + JsonPath.read(login.getResponse().getContentAsString(), "$.token");
+
+        final var created = mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateTaskRequest("Native task", "Created inside a native image"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        final Integer taskId = JsonPath.read(created.getResponse().getContentAsString(), "$.id");
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId).header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("Native task")))
+                .andExpect(jsonPath("$.status", is("TO_DO")))
+                .andExpect(jsonPath("$.userEmail", is("native.user@example.com")));
+
+        mockMvc.perform(get("/api/tasks").header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(taskId)));
+    }
+}
@@ -7,13 +7,16 @@ import com.dominik.todolist.model.Task;
 import com.dominik.todolist.model.TaskStatus;
 import com.dominik.todolist.repository.AppUserRepository;
 import com.dominik.todolist.repository.TaskRepository;
+import com.dominik.todolist.security.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -21,6 +24,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.dominik.todolist.support.SqlStatementCounter.assertStatementBudget;
+import static com.dominik.todolist.support.SqlStatementCounter.recordStatements;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -50,6 +55,12 @@ public class TaskControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private AppUser userA;
     private AppUser userB;
 
@@ -180,8 +191,9 @@ public class TaskControllerIntegrationTest {
         mockMvc.perform(post("/api/tasks/{id}/restore", activeTask.getId())
                         .with(csrf()))
                 .andExpect(status().isConflict())
-                .andExpect(jsonPath("$.error", is("Conflict")))
-                .andExpect(jsonPath("$.message", containsString("not deleted and cannot be restored")));
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.title", is("Conflict")))
+                .andExpect(jsonPath("$.detail", containsString("not deleted and cannot be restored")));
     }
 
     @Test
@@ -291,7 +303,10 @@ public class TaskControllerIntegrationTest {
         mockMvc.perform(get("/api/tasks")
                         .with(csrf()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content", hasSize(2)));
+                .andExpect(jsonPath("$.owner.email", is("user.a@example.com")))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[*].userEmail").doesNotExist())
+                .andExpect(jsonPath("$.pageable").doesNotExist());
     }
 
     @Test
@@ -330,7 +345,13 @@ public class TaskControllerIntegrationTest {
 
         mockMvc.perform(get("/api/tasks/{id}", taskOfUserB.getId())
                         .with(csrf()))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type", is("about:blank")))
+                .andExpect(jsonPath("$.title", is("Not Found")))
+                .andExpect(jsonPath("$.status", is(404)))
+                .andExpect(jsonPath("$.detail", is("Task not found with ID: " + taskOfUserB.getId())))
+                .andExpect(jsonPath("$.instance", is("/api/tasks/" + taskOfUserB.getId())));
     }
 
     @Test
@@ -372,9 +393,119 @@ public class TaskControllerIntegrationTest {
                         .with(csrf()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(5)))
-                .andExpect(jsonPath("$.totalPages", is(3)))
-                .andExpect(jsonPath("$.totalElements", is(15)))
-                .andExpect(jsonPath("$.number", is(1)));
+                .andExpect(jsonPath("$.page.totalPages", is(3)))
+                .andExpect(jsonPath("$.page.totalElements", is(15)))
+                .andExpect(jsonPath("$.page.number", is(1)));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks - Preview Shortens Long Descriptions")
+    @WithMockUser("user.a@example.com")
+    void whenGetTasksWithPreview_thenDescriptionsAreShortened() throws Exception {
+        taskRepository.save(Task.builder()
+                .title("Long Task")
+                .description("x".repeat(500))
+                .status(TaskStatus.TO_DO)
+                .appUser(userA)
+                .build());
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("preview", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].description", hasLength(100)))
+                .andExpect(jsonPath("$.content[0].description", endsWith("\u2026")));
+
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].description", hasLength(500)));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks - Sparse Fieldset Narrows Response and Query")
+    @WithMockUser("user.a@example.com")
+    void whenGetTasksWithFields_thenOnlyRequestedFieldsAreReadAndReturned() throws Exception {
+        createSampleTasksForUser(userA);
+
+        final var statements = recordStatements(entityManager, () ->
+                mockMvc.perform(get("/api/tasks")
+                                .param("fields", "title,status"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.owner.email", is("user.a@example.com")))
+                        .andExpect(jsonPath("$.content", hasSize(2)))
+                        .andExpect(jsonPath("$.content[0].id", notNullValue()))
+                        .andExpect(jsonPath("$.content[0].title", notNullValue()))
+                        .andExpect(jsonPath("$.content[0].status", notNullValue()))
+                        .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                        .andExpect(jsonPath("$.content[0].createdAt").doesNotExist())
+                        .andExpect(jsonPath("$.page.totalElements", is(2))));
+
+        assertTrue(statements.stream()
+                        .filter(sql -> sql.contains("tasks"))
+                        .noneMatch(sql -> sql.contains("description")),
+                "Task queries should not select the description: " + statements);
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} - Sparse Fieldset Narrows Response and Query")
+    @WithMockUser("user.a@example.com")
+    void whenGetOwnTaskByIdWithFields_thenOnlyRequestedFieldsAreReadAndReturned() throws Exception {
+        final var taskA = taskRepository.save(
+                Task.builder()
+                        .title("My Specific Task")
+                        .description("Details of my task.")
+                        .status(TaskStatus.IN_PROGRESS)
+                        .appUser(userA)
+                        .build()
+        );
+
+        final var statements = recordStatements(entityManager, () ->
+                mockMvc.perform(get("/api/tasks/{id}", taskA.getId())
+                                .param("fields", "title"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.id", is(taskA.getId().intValue())))
+                        .andExpect(jsonPath("$.title", is("My Specific Task")))
+                        .andExpect(jsonPath("$.description").doesNotExist())
+                        .andExpect(jsonPath("$.userEmail").doesNotExist()));
+
+        assertTrue(statements.stream()
+                        .filter(sql -> sql.contains("tasks"))
+                        .noneMatch(sql -> sql.contains("description") || sql.contains("join")),
+                "The task query should select only the title: " + statements);
+
+        mockMvc.perform(get("/api/tasks/{id}", taskA.getId())
+                        .param("fields", "status,userEmail"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("IN_PROGRESS")))
+                .andExpect(jsonPath("$.userEmail", is("user.a@example.com")))
+                .andExpect(jsonPath("$.title").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} - Sparse Fieldset Fails, Another User's Task")
+    @WithMockUser("user.a@example.com")
+    void whenGetAnotherUsersTaskByIdWithFields_thenReturns404NotFound() throws Exception {
+        final var taskOfUserB = taskRepository.save(
+                Task.builder()
+                        .title("Secret Task")
+                        .description("This belongs to User B.")
+                        .status(TaskStatus.IN_PROGRESS)
+                        .appUser(userB)
+                        .build()
+        );
+
+        mockMvc.perform(get("/api/tasks/{id}", taskOfUserB.getId())
+                        .param("fields", "title"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks - Sparse Fieldset Fails, Unknown Field")
+    @WithMockUser("user.a@example.com")
+    void whenGetTasksWithUnknownField_thenReturns400BadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                        .param("fields", "title,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Unknown task field: password")));
     }
 
     @Test
@@ -388,7 +519,7 @@ public class TaskControllerIntegrationTest {
                         .param("status", TaskStatus.TO_DO.name())
                         .with(csrf()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.totalElements", is(2)))
+                .andExpect(jsonPath("$.page.totalElements", is(2)))
                 .andExpect(jsonPath("$.content[*].status", everyItem(is(TaskStatus.TO_DO.name()))));
     }
 
@@ -402,10 +533,94 @@ public class TaskControllerIntegrationTest {
         mockMvc.perform(get("/api/tasks")
                         .with(csrf()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.totalElements", is(3)))
+                .andExpect(jsonPath("$.page.totalElements", is(3)))
                 .andExpect(jsonPath("$.content", hasSize(3)));
     }
 
+    @Test
+    @DisplayName("GET /api/tasks/changes - Full Sync Returns Live Tasks And Tombstones")
+    @WithMockUser("user.a@example.com")
+    void whenGetChangesWithoutToken_thenReturnsAllChangesIncludingTombstones() throws Exception {
+        final var liveTask = taskRepository.save(
+                Task.builder()
+                        .title("Live Task")
+                        .description("...")
+                        .status(TaskStatus.TO_DO)
+                        .appUser(userA)
+                        .build()
+        );
+        final var deletedTask = taskRepository.save(
+                Task.builder()
+                        .title("Deleted Task")
+                        .description("...")
+                        .status(TaskStatus.DONE)
+                        .appUser(userA)
+                        .build()
+        );
+        taskRepository.save(
+                Task.builder()
+                        .title("User B's Task")
+                        .description("...")
+                        .status(TaskStatus.TO_DO)
+                        .appUser(userB)
+                        .build()
+        );
+
+        mockMvc.perform(delete("/api/tasks/{id}", deletedTask.getId())
+                        .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks/changes")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[*].id", containsInAnyOrder(
+                        liveTask.getId().intValue(), deletedTask.getId().intValue())))
+                .andExpect(jsonPath("$.changes[*].deleted", containsInAnyOrder(true, false)))
+                .andExpect(jsonPath("$.nextToken", not(emptyOrNullString())))
+                .andExpect(jsonPath("$.hasMore", is(false)))
+                .andExpect(jsonPath("$.resetRequired", is(false)));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/changes - Returns Nothing After The Latest Watermark")
+    @WithMockUser("user.a@example.com")
+    void whenGetChangesWithLatestToken_thenReturnsNoChanges() throws Exception {
+        taskRepository.save(
+                Task.builder()
+                        .title("Synced Task")
+                        .description("...")
+                        .status(TaskStatus.TO_DO)
+                        .appUser(userA)
+                        .build()
+        );
+
+        final var firstSync = mockMvc.perform(get("/api/tasks/changes")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andReturn();
+        final var nextToken = objectMapper.readTree(firstSync.getResponse().getContentAsString())
+                .get("nextToken").asText();
+
+        mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", nextToken)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0)))
+                .andExpect(jsonPath("$.nextToken", is(nextToken)));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/changes - Fails, Malformed Token")
+    @WithMockUser("user.a@example.com")
+    void whenGetChangesWithMalformedToken_thenReturns400BadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", "not-a-token")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
     private AppUser createAndSaveTestUser() {
         return appUserRepository.save(
                 AppUser.builder()
@@ -416,6 +631,88 @@ public class TaskControllerIntegrationTest {
         );
     }
 
+    @Test
+    @DisplayName("Statement budget - Reading tasks")
+    @WithMockUser("user.a@example.com")
+    void whenReadingTasks_thenStaysWithinStatementBudget() throws Exception {
+        createSampleTasksForUser(userA);
+        final var taskId = taskRepository.findByUserIdAndOptionalStatus(userA.getId(), null, Pageable.unpaged())
+                .getContent().getFirst().getId();
+
+        // User lookup and task lookup; the owner is already in the persistence context.
+        assertStatementBudget(2, "GET /api/tasks/{id}", entityManager, () ->
+                mockMvc.perform(get("/api/tasks/{id}", taskId))
+                        .andExpect(status().isOk()));
+
+        // User lookup, page query and count query; mapping must not load the owner per task.
+        assertStatementBudget(3, "GET /api/tasks", entityManager, () ->
+                mockMvc.perform(get("/api/tasks"))
+                        .andExpect(status().isOk()));
+
+        // User lookup and the change feed query.
+        assertStatementBudget(2, "GET /api/tasks/changes", entityManager, () ->
+                mockMvc.perform(get("/api/tasks/changes"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Statement budget - Modifying tasks")
+    @WithMockUser("user.a@example.com")
+    void whenModifyingTasks_thenStaysWithinStatementBudget() throws Exception {
+        final var task = taskRepository.save(Task.builder()
+                .title("Budgeted task")
+                .description("...")
+                .status(TaskStatus.TO_DO)
+                .appUser(userA)
+                .build());
+
+        // User lookup, task insert and outbox insert.
+        assertStatementBudget(3, "POST /api/tasks", entityManager, () ->
+                mockMvc.perform(post("/api/tasks")
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new CreateTaskRequest("Title", "Description"))))
+                        .andExpect(status().isCreated()));
+
+        // User lookup, task lookup, outbox insert and task update.
+        assertStatementBudget(4, "PUT /api/tasks/{id}", entityManager, () ->
+                mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new TaskRequest("Updated", "Updated", TaskStatus.DONE))))
+                        .andExpect(status().isOk()));
+
+        // User lookup, task lookup, outbox insert and soft-delete update.
+        assertStatementBudget(4, "DELETE /api/tasks/{id}", entityManager, () ->
+                mockMvc.perform(delete("/api/tasks/{id}", task.getId())
+                                .with(csrf()))
+                        .andExpect(status().isNoContent()));
+
+        // User lookup, task lookup including deleted rows, outbox insert and task update.
+        assertStatementBudget(4, "POST /api/tasks/{id}/restore", entityManager, () ->
+                mockMvc.perform(post("/api/tasks/{id}/restore", task.getId())
+                                .with(csrf()))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Statement budget - Bearer token authentication")
+    void whenAuthenticatingWithBearerToken_thenStaysWithinStatementBudget() throws Exception {
+        final var task = taskRepository.save(Task.builder()
+                .title("Budgeted task")
+                .description("...")
+                .status(TaskStatus.TO_DO)
+                .appUser(userA)
+                .build());
+        final var token = jwtUtil.generateToken(userA.getEmail());
+
+        // The JWT filter and the service each look the user up by email, then the task lookup.
+        assertStatementBudget(3, "GET /api/tasks/{id} with a bearer token", entityManager, () ->
+                mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                                .header("Authorization", "Bearer " + token))
+                        .andExpect(status().isOk()));
+    }
+
     private void createSampleTasksForUser(AppUser user) {
         taskRepository.save(Task.builder()
                 .title("Task A")
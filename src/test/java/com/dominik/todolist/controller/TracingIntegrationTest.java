@@ -0,0 +1,135 @@
+package com.dominik.todolist.controller;
+
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.model.Task;
+import com.dominik.todolist.model.TaskStatus;
+import com.dominik.todolist.repository.AppUserRepository;
+import com.dominik.todolist.repository.TaskRepository;
+import com.dominik.todolist.security.JwtUtil;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+@Import(TracingIntegrationTest.InMemoryExporterConfig.class)
+@Transactional
+@ActiveProfiles("test")
+public class TracingIntegrationTest {
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        final var user = appUserRepository.save(AppUser.builder()
+                .email("tracing.user@example.com")
+                .name("Tracing User")
+                .password(passwordEncoder.encode("password"))
+                .build());
+        task = taskRepository.save(Task.builder()
+                .title("Traced Task")
+                .description("...")
+                .status(TaskStatus.TO_DO)
+                .appUser(user)
+                .build());
+
+        flushSpans();
+        spanExporter.reset();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} - Records one trace with filter, controller, service, repository and JDBC spans")
+    void whenGettingTask_thenEachLayerIsASpanOfOneTrace() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken("tracing.user@example.com")))
+                .andExpect(status().isOk());
+
+        flushSpans();
+        final List<SpanData> spans = spanExporter.getFinishedSpanItems();
+
+        final SpanData server = find(spans, span -> span.getKind() == SpanKind.SERVER);
+        final SpanData jwt = find(spans, span -> span.getName().equals("jwt authentication"));
+        final SpanData controller = find(spans, attribute("method", "getTaskById"));
+        final SpanData service = find(spans, attribute("method", "getTaskByIdAndAppUser"));
+        final SpanData repository = find(spans, attribute("repository", "TaskRepository").and(attribute("method", "findById")));
+
+        for (SpanData span : List.of(jwt, controller, service, repository)) {
+            assertEquals(server.getTraceId(), span.getTraceId(), span.getName() + " belongs to another trace");
+        }
+        assertEquals(controller.getSpanId(), service.getParentSpanId());
+        assertEquals(service.getSpanId(), repository.getParentSpanId());
+        assertTrue(spans.stream().anyMatch(span -> span.getName().equals("query")
+                        && span.getTraceId().equals(server.getTraceId())),
+                "Expected a JDBC query span in the request trace");
+    }
+
+    private void flushSpans() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+    }
+
+    private static Predicate<SpanData> attribute(String key, String value) {
+        return span -> value.equals(span.getAttributes().get(AttributeKey.stringKey(key)));
+    }
+
+    private static SpanData find(List<SpanData> spans, Predicate<SpanData> predicate) {
+        return spans.stream()
+                .filter(predicate)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No matching span in " + spans.stream().map(SpanData::getName).toList()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.dominik.todolist.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrencyLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 1, 50);
+    }
+
+    @Test
+    @DisplayName("Should time out when every permit is held")
+    void getConnection_whenExhausted_shouldTimeOut() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(mock(Connection.class));
+
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        assertEquals(0, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Closing a connection should release its permit exactly once")
+    void close_shouldReleasePermitOnce() throws SQLException {
+        final var target = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(target);
+
+        final var connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        verify(target, times(2)).close();
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the pool fails to hand out a connection")
+    void getConnection_whenTargetFails_shouldReleasePermit() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+}
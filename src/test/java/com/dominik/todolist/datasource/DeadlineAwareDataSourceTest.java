@@ -0,0 +1,137 @@
+package com.dominik.todolist.datasource;
+
+import com.dominik.todolist.config.RequestDeadlineProperties;
+import com.dominik.todolist.web.RequestDeadline;
+import com.dominik.todolist.web.RequestDeadlineFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeadlineAwareDataSourceTest {
+
+    private final DeadlineAwareDataSource dataSource = new DeadlineAwareDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:deadline;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(new RequestDeadlineProperties(
+            true, "X-Request-Timeout", 10_000, Map.of("/api/auth/**", 5_000L), 30_000));
+
+    @Test
+    @DisplayName("Should set the remaining request budget as the statement query timeout")
+    void statement_shouldUseRemainingBudgetAsQueryTimeout() throws Exception {
+        final var request = request("/api/tasks");
+        request.addHeader("X-Request-Timeout", "2500");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain(() -> {
+            try (Connection connection = dataSource.getConnection();
+                 var statement = connection.prepareStatement("SELECT 1")) {
+                assertEquals(3, statement.getQueryTimeout());
+            }
+        }));
+        assertTrue(RequestDeadline.remainingNanos().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should refuse connections once the deadline has passed")
+    void getConnection_shouldFailAfterDeadline() throws Exception {
+        final var request = request("/api/tasks");
+        request.addHeader("X-Request-Timeout", "0");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain(() ->
+                assertThrows(SQLTimeoutException.class, dataSource::getConnection)));
+    }
+
+    @Test
+    @DisplayName("Should leave statements outside of a request without a timeout")
+    void statement_withoutRequest_shouldHaveNoTimeout() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             var statement = connection.createStatement()) {
+            assertEquals(0, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    @DisplayName("Should use endpoint defaults without a header and cap client timeouts at the maximum")
+    void filter_shouldApplyEndpointDefaultsAndMaximum() throws Exception {
+        filter.doFilter(request("/api/auth/login"), new MockHttpServletResponse(), chain(() ->
+                assertEquals(5, RequestDeadline.remainingSeconds().orElseThrow())));
+
+        final var greedy = request("/api/tasks");
+        greedy.addHeader("X-Request-Timeout", "600000");
+        filter.doFilter(greedy, new MockHttpServletResponse(), chain(() ->
+                assertEquals(30, RequestDeadline.remainingSeconds().orElseThrow())));
+    }
+
+    @Test
+    @DisplayName("Should shorten transaction timeouts to the deadline and refuse transactions after it")
+    void transactionManager_shouldBoundTimeoutByDeadline() throws Exception {
+        final var transactionManager = new DeadlineAwareJpaTransactionManager();
+        final var longTransaction = new DefaultTransactionDefinition();
+        longTransaction.setTimeout(60);
+
+        final var request = request("/api/tasks");
+        request.addHeader("X-Request-Timeout", "4000");
+        filter.doFilter(request, new MockHttpServletResponse(), chain(() -> {
+            assertEquals(4, transactionManager.determineTimeout(new DefaultTransactionDefinition()));
+            assertEquals(4, transactionManager.determineTimeout(longTransaction));
+        }));
+
+        final var expired = request("/api/tasks");
+        expired.addHeader("X-Request-Timeout", "0");
+        filter.doFilter(expired, new MockHttpServletResponse(), chain(() ->
+                assertThrows(TransactionTimedOutException.class,
+                        () -> transactionManager.determineTimeout(new DefaultTransactionDefinition()))));
+
+        assertEquals(TransactionDefinition.TIMEOUT_DEFAULT,
+                transactionManager.determineTimeout(new DefaultTransactionDefinition()));
+    }
+
+    @Test
+    @DisplayName("Should answer a deadline that runs out ahead of the controller with 504")
+    void filter_shouldWrite504ForDeadlineExceededInFilterChain() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/tasks"), response, (req, res) -> {
+            throw new TransactionTimedOutException("Request deadline exceeded before the transaction started");
+        });
+
+        assertEquals(504, response.getStatus());
+        assertTrue(response.getContentAsString().contains("deadline"));
+        assertThrows(IllegalArgumentException.class, () -> filter.doFilter(request("/api/tasks"),
+                new MockHttpServletResponse(), (req, res) -> {
+                    throw new IllegalArgumentException("unrelated");
+                }));
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private static FilterChain chain(ThrowingAction action) {
+        return (request, response) -> {
+            try {
+                action.run();
+            } catch (SQLException e) {
+                throw new AssertionError(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingAction {
+        void run() throws SQLException;
+    }
+}
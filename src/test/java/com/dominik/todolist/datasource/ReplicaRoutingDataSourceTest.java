@@ -0,0 +1,135 @@
+package com.dominik.todolist.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1";
+    private static final String SECOND_REPLICA_URL = "jdbc:h2:mem:routing_replica_2;DB_CLOSE_DELAY=-1";
+
+    private final DataSource primary = new DriverManagerDataSource(PRIMARY_URL, "sa", "");
+    private final DataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should be routed to a replica")
+    void readOnlyTransaction_shouldUseReplica() {
+        final var dataSource = routing(new ReplicaSet(List.of(new ReplicaPool("replica-1", replica)), 1), Duration.ofSeconds(5));
+
+        assertEquals("jdbc:h2:mem:routing_replica", connectedUrl(dataSource, true));
+    }
+
+    @Test
+    @DisplayName("Read-write transactions should be routed to the primary")
+    void readWriteTransaction_shouldUsePrimary() {
+        final var dataSource = routing(new ReplicaSet(List.of(new ReplicaPool("replica-1", replica)), 1), Duration.ofSeconds(5));
+
+        assertEquals("jdbc:h2:mem:routing_primary", connectedUrl(dataSource, false));
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should alternate between replicas")
+    void readOnlyTransactions_shouldRoundRobinReplicas() {
+        final var secondReplica = new DriverManagerDataSource(SECOND_REPLICA_URL, "sa", "");
+        final var replicaSet = new ReplicaSet(List.of(
+                new ReplicaPool("replica-1", replica),
+                new ReplicaPool("replica-2", secondReplica)
+        ), 1);
+        final var dataSource = routing(replicaSet, Duration.ofSeconds(5));
+
+        assertEquals("jdbc:h2:mem:routing_replica", connectedUrl(dataSource, true));
+        assertEquals("jdbc:h2:mem:routing_replica_2", connectedUrl(dataSource, true));
+        assertEquals("jdbc:h2:mem:routing_replica", connectedUrl(dataSource, true));
+    }
+
+    @Test
+    @DisplayName("Reads by a user who just wrote should stay on the primary")
+    void readAfterOwnWrite_shouldUsePrimary() {
+        final var dataSource = routing(new ReplicaSet(List.of(new ReplicaPool("replica-1", replica)), 1), Duration.ofMinutes(1));
+        authenticate("writer@example.com");
+
+        connectedUrl(dataSource, false);
+        assertEquals("jdbc:h2:mem:routing_primary", connectedUrl(dataSource, true));
+
+        authenticate("reader@example.com");
+        assertEquals("jdbc:h2:mem:routing_replica", connectedUrl(dataSource, true));
+    }
+
+    @Test
+    @DisplayName("Reads should return to replicas once the stickiness window has passed")
+    void readAfterWindow_shouldUseReplica() {
+        final var dataSource = routing(new ReplicaSet(List.of(new ReplicaPool("replica-1", replica)), 1), Duration.ZERO);
+        authenticate("writer@example.com");
+
+        connectedUrl(dataSource, false);
+
+        assertEquals("jdbc:h2:mem:routing_replica", connectedUrl(dataSource, true));
+    }
+
+    @Test
+    @DisplayName("Reads should fall back to the primary when every replica is unhealthy")
+    void unhealthyReplica_shouldFallBackToPrimary() throws SQLException {
+        final var brokenReplica = mock(DataSource.class);
+        when(brokenReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        final var replicaSet = new ReplicaSet(List.of(new ReplicaPool("replica-1", brokenReplica)), 1);
+        final var dataSource = routing(replicaSet, Duration.ofSeconds(5));
+
+        replicaSet.checkHealth();
+
+        assertEquals("jdbc:h2:mem:routing_primary", connectedUrl(dataSource, true));
+    }
+
+    private DataSource routing(ReplicaSet replicaSet, Duration window) {
+        final var routingDataSource = new ReplicaRoutingDataSource(primary, replicaSet, new ReadYourWritesTracker(window));
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static String connectedUrl(DataSource dataSource, boolean readOnly) {
+        final var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> {
+            try {
+                final var url = DataSourceUtils.getConnection(dataSource).getMetaData().getURL();
+                final int settingsStart = url.indexOf(';');
+                return settingsStart < 0 ? url : url.substring(0, settingsStart);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.dominik.todolist.diagnostics;
+
+import com.dominik.todolist.config.ProfilingProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JfrRecordingServiceTest {
+
+    private JfrRecordingService jfrRecordingService;
+
+    @BeforeEach
+    void setUp() {
+        jfrRecordingService = new JfrRecordingService(new ProfilingProperties(List.of(), true, 5, 30));
+        jfrRecordingService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jfrRecordingService.stop();
+    }
+
+    @Test
+    @DisplayName("Should capture application events in a dumped on-demand recording")
+    void dumpRecording_shouldContainApplicationEvents() throws Exception {
+        final var recording = jfrRecordingService.startRecording("profile", 600);
+
+        final var event = TaskOperationEvent.begin("get", 42L);
+        event.userId = 7;
+        event.commit();
+
+        final Path file = jfrRecordingService.dumpRecording(recording.id()).orElseThrow();
+        try {
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(recorded -> recorded.getEventType().getName().equals("com.dominik.todolist.TaskOperation"))
+                    .toList();
+            assertFalse(events.isEmpty());
+            assertEquals("get", events.getFirst().getString("operation"));
+            assertEquals(42L, events.getFirst().getLong("taskId"));
+            assertEquals(7L, events.getFirst().getLong("userId"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should cap the duration and list the continuous recording alongside on-demand ones")
+    void startRecording_shouldCapDuration() {
+        final var recording = jfrRecordingService.startRecording("default", 3600);
+
+        assertEquals(30L, recording.durationSeconds());
+        assertEquals(2, jfrRecordingService.listRecordings().size());
+        assertEquals(JfrRecordingService.CONTINUOUS_RECORDING_NAME, jfrRecordingService.listRecordings().getFirst().name());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown settings and unknown recording IDs")
+    void shouldRejectUnknownSettingsAndIds() {
+        assertThrows(IllegalArgumentException.class, () -> jfrRecordingService.startRecording("does-not-exist", 10));
+        assertTrue(jfrRecordingService.dumpRecording(Long.MAX_VALUE).isEmpty());
+        assertFalse(jfrRecordingService.closeRecording(Long.MAX_VALUE));
+    }
+}
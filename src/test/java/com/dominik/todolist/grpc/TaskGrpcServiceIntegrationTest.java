@@ -0,0 +1,257 @@
+package com.dominik.todolist.grpc;
+
+import com.dominik.todolist.grpc.v1.ChangeBatch;
+import com.dominik.todolist.grpc.v1.CreateTaskRequest;
+import com.dominik.todolist.grpc.v1.DeleteTaskRequest;
+import com.dominik.todolist.grpc.v1.GetTaskRequest;
+import com.dominik.todolist.grpc.v1.ListTasksRequest;
+import com.dominik.todolist.grpc.v1.SyncRequest;
+import com.dominik.todolist.grpc.v1.Task;
+import com.dominik.todolist.grpc.v1.TaskStatus;
+import com.dominik.todolist.grpc.v1.TasksGrpc;
+import com.dominik.todolist.grpc.v1.UpdateTaskRequest;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.repository.AppUserRepository;
+import com.dominik.todolist.security.JwtUtil;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Calls the gRPC server over a real channel. Not transactional: the server handles each call on
+ * its own thread and transaction, so data is committed and removed again after each test.
+ */
+@SpringBootTest(properties = "app.grpc.enabled=true")
+@ActiveProfiles("test")
+public class TaskGrpcServiceIntegrationTest {
+
+    @Autowired
+    private GrpcServerLifecycle grpcServer;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        deleteAllData();
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        deleteAllData();
+    }
+
+    @Test
+    @DisplayName("gRPC - Fails without a bearer token")
+    void whenCallingWithoutToken_thenFailsUnauthenticated() {
+        final var exception = assertThrows(StatusRuntimeException.class, () ->
+                TasksGrpc.newBlockingStub(channel).getTask(GetTaskRequest.newBuilder().setId(1).build()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("gRPC - Create, get, update and delete a task")
+    void whenManagingTask_thenBehavesLikeRestApi() {
+        final var stub = stubFor(createUser("grpc.user@example.com"));
+
+        final Task created = stub.createTask(CreateTaskRequest.newBuilder()
+                .setTitle("gRPC task")
+                .setDescription("Created over gRPC")
+                .build());
+        assertEquals(TaskStatus.TO_DO, created.getStatus());
+        assertEquals("grpc.user@example.com", created.getUserEmail());
+        assertTrue(created.hasCreatedAt());
+
+        final Task updated = stub.updateTask(UpdateTaskRequest.newBuilder()
+                .setId(created.getId())
+                .setTitle("gRPC task")
+                .setDescription("Updated over gRPC")
+                .setStatus(TaskStatus.DONE)
+                .build());
+        assertEquals(TaskStatus.DONE, updated.getStatus());
+        assertEquals(updated, stub.getTask(GetTaskRequest.newBuilder().setId(created.getId()).build()));
+
+        stub.deleteTask(DeleteTaskRequest.newBuilder().setId(created.getId()).build());
+        final var exception = assertThrows(StatusRuntimeException.class, () ->
+                stub.getTask(GetTaskRequest.newBuilder().setId(created.getId()).build()));
+        assertEquals(Status.Code.NOT_FOUND, exception.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("gRPC - Rejects invalid requests and other users' tasks")
+    void whenRequestIsInvalidOrForeign_thenFailsWithMatchingStatus() {
+        final var owner = stubFor(createUser("grpc.owner@example.com"));
+        final var other = stubFor(createUser("grpc.other@example.com"));
+        final Task task = owner.createTask(CreateTaskRequest.newBuilder().setTitle("Private").setDescription("...").build());
+
+        final var invalid = assertThrows(StatusRuntimeException.class, () ->
+                owner.createTask(CreateTaskRequest.newBuilder().setTitle("").setDescription("...").build()));
+        assertEquals(Status.Code.INVALID_ARGUMENT, invalid.getStatus().getCode());
+
+        final var foreign = assertThrows(StatusRuntimeException.class, () ->
+                other.getTask(GetTaskRequest.newBuilder().setId(task.getId()).build()));
+        assertEquals(Status.Code.NOT_FOUND, foreign.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("gRPC - ListTasks streams every matching task in id order")
+    void whenListingTasks_thenStreamsAllMatchingTasks() {
+        final var stub = stubFor(createUser("grpc.list@example.com"));
+        for (int i = 0; i < 25; i++) {
+            final Task task = stub.createTask(CreateTaskRequest.newBuilder()
+                    .setTitle("Task " + i)
+                    .setDescription("...")
+                    .build());
+            if (i % 5 == 0) {
+                stub.updateTask(UpdateTaskRequest.newBuilder()
+                        .setId(task.getId())
+                        .setTitle(task.getTitle())
+                        .setDescription(task.getDescription())
+                        .setStatus(TaskStatus.DONE)
+                        .build());
+            }
+        }
+
+        final List<Task> all = new ArrayList<>();
+        stub.listTasks(ListTasksRequest.getDefaultInstance()).forEachRemaining(all::add);
+        assertEquals(25, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getId() < all.get(i).getId(), "Tasks should arrive in id order.");
+        }
+
+        final List<Task> done = new ArrayList<>();
+        stub.listTasks(ListTasksRequest.newBuilder().setStatus(TaskStatus.DONE).build()).forEachRemaining(done::add);
+        assertEquals(5, done.size());
+    }
+
+    @Test
+    @DisplayName("gRPC - ListTasks pages through more tasks than one page holds")
+    void whenListingManyTasks_thenStreamsEveryPage() {
+        final var stub = stubFor(createUser("grpc.many@example.com"));
+        final Long userId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = ?", Long.class, "grpc.many@example.com");
+        final var now = Timestamp.from(Instant.now());
+        final List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            rows.add(new Object[]{"Task " + i, "...", "TO_DO", now, now, userId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (title, description, status, created_at, updated_at, is_deleted, user_id) " +
+                "VALUES (?, ?, ?, ?, ?, false, ?)", rows);
+
+        final List<Task> all = new ArrayList<>();
+        stub.listTasks(ListTasksRequest.getDefaultInstance()).forEachRemaining(all::add);
+
+        assertEquals(250, all.size());
+        assertEquals(250, all.stream().map(Task::getId).distinct().count());
+    }
+
+    @Test
+    @DisplayName("gRPC - SyncChanges answers pulls and pushes later changes")
+    void whenSyncing_thenReceivesExistingAndLaterChanges() throws InterruptedException {
+        final String token = createUser("grpc.sync@example.com");
+        final var stub = stubFor(token);
+        final Task existing = stub.createTask(CreateTaskRequest.newBuilder().setTitle("Existing").setDescription("...").build());
+
+        final BlockingQueue<ChangeBatch> batches = new LinkedBlockingQueue<>();
+        final StreamObserver<SyncRequest> requests = asyncStubFor(token).syncChanges(new StreamObserver<>() {
+            @Override
+            public void onNext(ChangeBatch batch) {
+                batches.add(batch);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        requests.onNext(SyncRequest.newBuilder().setLimit(10).build());
+
+        final ChangeBatch initial = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(initial, "The initial pull should be answered.");
+        assertEquals(1, initial.getChangesCount());
+        assertEquals(existing.getId(), initial.getChanges(0).getId());
+
+        final Task later = stub.createTask(CreateTaskRequest.newBuilder().setTitle("Later").setDescription("...").build());
+        final ChangeBatch pushed = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(pushed, "The new task should be pushed.");
+        assertEquals(later.getId(), pushed.getChanges(0).getId());
+        assertEquals("Later", pushed.getChanges(0).getTask().getTitle());
+
+        stub.deleteTask(DeleteTaskRequest.newBuilder().setId(existing.getId()).build());
+        final ChangeBatch tombstone = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(tombstone, "The deletion should be pushed.");
+        assertTrue(tombstone.getChanges(0).getDeleted());
+        assertFalse(tombstone.getChanges(0).hasTask());
+
+        requests.onCompleted();
+    }
+
+    private String createUser(String email) {
+        appUserRepository.save(AppUser.builder()
+                .email(email)
+                .name("gRPC User")
+                .password(passwordEncoder.encode("password"))
+                .build());
+        return jwtUtil.generateToken(email);
+    }
+
+    private TasksGrpc.TasksBlockingStub stubFor(String token) {
+        return TasksGrpc.newBlockingStub(channel).withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)));
+    }
+
+    private TasksGrpc.TasksStub asyncStubFor(String token) {
+        return TasksGrpc.newStub(channel).withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)));
+    }
+
+    private static Metadata bearer(String token) {
+        final var metadata = new Metadata();
+        metadata.put(JwtServerInterceptor.AUTHORIZATION, "Bearer " + token);
+        return metadata;
+    }
+
+    private void deleteAllData() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+}
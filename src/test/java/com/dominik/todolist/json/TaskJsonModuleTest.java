@@ -0,0 +1,89 @@
+package com.dominik.todolist.json;
+
+import com.dominik.todolist.dto.TaskChangeResponse;
+import com.dominik.todolist.dto.TaskListResponse;
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.model.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TaskJsonModuleTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2023-10-27T10:00:00Z");
+    private static final Instant UPDATED_AT = Instant.parse("2024-02-29T23:59:59.123456Z");
+
+    // Same defaults as the ObjectMapper Spring Boot builds, with and without the module.
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper specialized = Jackson2ObjectMapperBuilder.json().modulesToInstall(new TaskJsonModule()).build();
+
+    @Test
+    @DisplayName("Should write a task response byte for byte like the reflective serializer")
+    void shouldMatchReflectiveOutput_forTaskResponse() throws Exception {
+        assertSameBytes(new TaskResponse(1L, "Title", "Description", TaskStatus.IN_PROGRESS,
+                CREATED_AT, UPDATED_AT, 7L, "user@example.com"));
+        assertSameBytes(new TaskResponse(2L, "Quote \" and \\ and \n", "Zażółć gęślą jaźń 😀 <script>",
+                TaskStatus.DONE, Instant.ofEpochSecond(0, 1), Instant.ofEpochSecond(-1, 500_000_000), 7L, "u@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should leave out null attributes like the reflective serializer")
+    void shouldMatchReflectiveOutput_forSparseTaskResponse() throws Exception {
+        assertSameBytes(new TaskResponse(3L, "Title", null, TaskStatus.TO_DO, null, null, null, null));
+        assertSameBytes(new TaskResponse(null, null, null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should write task lists and change feed entries like the reflective serializer")
+    void shouldMatchReflectiveOutput_forEnclosingResponses() throws Exception {
+        final var items = List.of(
+                new TaskListResponse.Item(1L, "First", "Description", TaskStatus.TO_DO, CREATED_AT, UPDATED_AT),
+                new TaskListResponse.Item(2L, "Second", null, TaskStatus.DONE, null, null));
+        assertSameBytes(new TaskListResponse(
+                new TaskListResponse.Owner(7L, "user@example.com"),
+                items,
+                new TaskListResponse.PageInfo(0, 10, 2, 1)));
+        assertSameBytes(new TaskListResponse(null, List.of(), null));
+        assertSameBytes(new TaskChangeResponse(1L, false, UPDATED_AT,
+                new TaskResponse(1L, "Title", "Description", TaskStatus.DONE, CREATED_AT, UPDATED_AT, 7L, "u@example.com")));
+        assertSameBytes(new TaskChangeResponse(1L, true, UPDATED_AT, null));
+    }
+
+    @Test
+    @DisplayName("Should format instants exactly like Instant.toString")
+    void shouldFormatInstantsLikeToString() throws Exception {
+        final var random = new Random(42);
+        final long min = Instant.parse("0000-01-01T00:00:00Z").getEpochSecond();
+        final long max = Instant.parse("9999-12-31T23:59:59Z").getEpochSecond();
+        final char[] buffer = new char[IsoInstantFormat.MAX_LENGTH];
+
+        for (int i = 0; i < 100_000; i++) {
+            final long second = min + (long) (random.nextDouble() * (max - min));
+            final int nano = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            final var instant = Instant.ofEpochSecond(second, nano);
+            assertEquals(instant.toString(), new String(buffer, 0, IsoInstantFormat.format(instant, buffer)));
+        }
+
+        assertEquals(-1, IsoInstantFormat.format(Instant.MAX, buffer));
+        assertSameBytes(new TaskResponse(1L, "Far future", "...", TaskStatus.TO_DO, Instant.MAX, Instant.MIN, 7L, "u@example.com"));
+    }
+
+    private void assertSameBytes(Object value) throws Exception {
+        final byte[] expected = reflective.writeValueAsBytes(value);
+        final byte[] actual = specialized.writeValueAsBytes(value);
+        assertArrayEquals(expected, actual, () -> "Expected " + new String(expected) + " but was " + new String(actual));
+    }
+}
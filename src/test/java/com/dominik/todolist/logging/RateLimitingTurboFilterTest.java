@@ -0,0 +1,84 @@
+package com.dominik.todolist.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RateLimitingTurboFilterTest {
+
+    private LoggerContext loggerContext;
+    private RateLimitingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter = new RateLimitingTurboFilter();
+        filter.setContext(loggerContext);
+        filter.setLoggerPrefix("com.dominik.todolist.security");
+        filter.setMaxEventsPerSecond(2);
+        filter.setMaxLevel("INFO");
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("Should deny events beyond the per-second budget of a logger")
+    void decide_shouldDenyEventsBeyondBudget() {
+        final Logger logger = loggerContext.getLogger("com.dominik.todolist.security.JwtAuthFilter");
+
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.DEBUG));
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+        assertEquals(1, filter.getSuppressedCount());
+    }
+
+    @Test
+    @DisplayName("Should keep a separate budget for each logger")
+    void decide_shouldBudgetEachLoggerSeparately() {
+        final Logger first = loggerContext.getLogger("com.dominik.todolist.security.JwtAuthFilter");
+        final Logger second = loggerContext.getLogger("com.dominik.todolist.security.JwtUtil");
+        decide(first, Level.INFO);
+        decide(first, Level.INFO);
+
+        assertEquals(FilterReply.DENY, decide(first, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(second, Level.INFO));
+    }
+
+    @Test
+    @DisplayName("Should not sample levels above the configured maximum or other loggers")
+    void decide_shouldIgnoreWarningsAndUnrelatedLoggers() {
+        final Logger security = loggerContext.getLogger("com.dominik.todolist.security.JwtAuthFilter");
+        final Logger service = loggerContext.getLogger("com.dominik.todolist.service.TaskService");
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(security, Level.WARN));
+            assertEquals(FilterReply.NEUTRAL, decide(service, Level.INFO));
+        }
+        assertEquals(0, filter.getSuppressedCount());
+    }
+
+    @Test
+    @DisplayName("Should not spend the budget on level checks or disabled levels")
+    void decide_shouldIgnoreLevelChecksAndDisabledLevels() {
+        final Logger logger = loggerContext.getLogger("com.dominik.todolist.security.JwtAuthFilter");
+        logger.setLevel(Level.INFO);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, null, null, null));
+            assertEquals(FilterReply.NEUTRAL, decide(logger, Level.DEBUG));
+        }
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{"arg"}, null);
+    }
+}
@@ -0,0 +1,155 @@
+package com.dominik.todolist.service;
+
+import com.dominik.todolist.config.TaskIdFilterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KnownTaskIdFilterTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:known_task_ids;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT PRIMARY KEY)");
+        for (long id = 1; id <= 100; id += 2) {
+            jdbcTemplate.update("INSERT INTO tasks (id) VALUES (?)", id);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE tasks");
+    }
+
+    @Test
+    @DisplayName("Should report nothing as absent before the first load")
+    void isDefinitelyAbsent_beforeRebuild_shouldReturnFalse() {
+        final var filter = filter(false);
+
+        assertFalse(filter.isDefinitelyAbsent(2L));
+    }
+
+    @Test
+    @DisplayName("Should rule out IDs missing from the settled range but keep existing ones")
+    void isDefinitelyAbsent_afterSettling_shouldRuleOutMissingIds() {
+        final var filter = filter(false);
+        filter.rebuild();
+        filter.refresh();
+
+        assertEquals(50, filter.size());
+        assertFalse(filter.isDefinitelyAbsent(1L));
+        assertFalse(filter.isDefinitelyAbsent(99L));
+        assertTrue(filter.isDefinitelyAbsent(2L));
+        assertTrue(filter.isDefinitelyAbsent(0L));
+        assertEquals(2, meterRegistry.counter("task.id.filter.lookups", "result", "rejected").count());
+        assertEquals(2, meterRegistry.counter("task.id.filter.lookups", "result", "passed").count());
+    }
+
+    @Test
+    @DisplayName("Should not rule out scanned IDs until their transactions can no longer commit")
+    void isDefinitelyAbsent_beforeMaxTransactionTime_shouldReturnFalse() {
+        final var filter = filter(false, Integer.MAX_VALUE, 60_000);
+        filter.rebuild();
+        filter.refresh();
+
+        assertEquals(50, filter.size());
+        assertFalse(filter.isDefinitelyAbsent(2L));
+    }
+
+    @Test
+    @DisplayName("Should not rule out IDs above the settled range")
+    void isDefinitelyAbsent_aboveSettledRange_shouldReturnFalse() {
+        final var filter = filter(false);
+        filter.rebuild();
+        filter.refresh();
+        jdbcTemplate.update("INSERT INTO tasks (id) VALUES (?)", 150L);
+        filter.refresh();
+
+        assertTrue(filter.isDefinitelyAbsent(98L));
+        assertFalse(filter.isDefinitelyAbsent(120L));
+        assertFalse(filter.isDefinitelyAbsent(5_000L));
+    }
+
+    @Test
+    @DisplayName("Should rule out IDs above the scanned range when it is the only writer")
+    void isDefinitelyAbsent_soleWriter_shouldRuleOutUnknownHigherIds() {
+        final var filter = filter(true);
+        filter.rebuild();
+        filter.add(101L);
+
+        assertTrue(filter.isDefinitelyAbsent(5_000L));
+        assertFalse(filter.isDefinitelyAbsent(101L));
+    }
+
+    @Test
+    @DisplayName("Should pick up an ID that commits after thousands of newer IDs were scanned")
+    void refresh_shouldAddIdsCommittedLate() {
+        final var filter = filter(false);
+        filter.rebuild();
+
+        jdbcTemplate.update("INSERT INTO tasks (id) VALUES (?)", 5_000L);
+        filter.refresh();
+        // Issued before 5000 but committed after the scan that saw 5000.
+        jdbcTemplate.update("INSERT INTO tasks (id) VALUES (?)", 120L);
+        filter.refresh();
+
+        assertEquals(52, filter.size());
+        assertFalse(filter.isDefinitelyAbsent(120L));
+        assertTrue(filter.isDefinitelyAbsent(121L));
+    }
+
+    @Test
+    @DisplayName("Should rule out purged IDs")
+    void removeAfterCommit_withoutTransaction_shouldClearIdsImmediately() {
+        final var filter = filter(false);
+        filter.rebuild();
+        filter.refresh();
+
+        filter.removeAfterCommit(List.of(1L, 3L));
+
+        assertTrue(filter.isDefinitelyAbsent(1L));
+        assertTrue(filter.isDefinitelyAbsent(3L));
+        assertEquals(48, filter.size());
+    }
+
+    @Test
+    @DisplayName("Should not track or rule out IDs above the cap")
+    void isDefinitelyAbsent_aboveMaxTrackedId_shouldReturnFalse() {
+        final var filter = filter(true, 50);
+        filter.rebuild();
+        filter.add(5_001L);
+
+        assertEquals(25, filter.size());
+        assertTrue(filter.isDefinitelyAbsent(2L));
+        assertFalse(filter.isDefinitelyAbsent(52L));
+        assertFalse(filter.isDefinitelyAbsent(5_000L));
+    }
+
+    private KnownTaskIdFilter filter(boolean assumeSoleWriter) {
+        return filter(assumeSoleWriter, Integer.MAX_VALUE);
+    }
+
+    private KnownTaskIdFilter filter(boolean assumeSoleWriter, long maxTrackedId) {
+        return filter(assumeSoleWriter, maxTrackedId, 0);
+    }
+
+    private KnownTaskIdFilter filter(boolean assumeSoleWriter, long maxTrackedId, long maxTransactionMs) {
+        return new KnownTaskIdFilter(
+                jdbcTemplate,
+                new TaskIdFilterProperties(true, 30_000, maxTransactionMs, assumeSoleWriter, maxTrackedId),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,115 @@
+package com.dominik.todolist.service;
+
+import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.repository.AppUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the multi-row insert against the database. Not transactional: the flusher commits on its own thread.
+ */
+@SpringBootTest(properties = {
+        "app.task.create-batch.enabled=true",
+        "app.task.create-batch.max-batch-size=4",
+        "app.task.create-batch.window-ms=2000",
+        // Keeps delivered events in the table so they can be counted.
+        "app.outbox.enabled=false"
+})
+@ActiveProfiles("test")
+public class TaskCreateBatcherIntegrationTest {
+
+    @Autowired
+    private TaskCreateBatcher batcher;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private KnownTaskIdFilter knownTaskIdFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        deleteAllData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteAllData();
+    }
+
+    @Test
+    @DisplayName("Concurrent creates are committed together with their outbox events")
+    void whenCreatingConcurrently_thenAllTasksArePersisted() throws Exception {
+        final var owner = appUserRepository.save(AppUser.builder()
+                .name("Batch User")
+                .email("batch.user@example.com")
+                .password(passwordEncoder.encode("password"))
+                .build());
+
+        final List<Future<TaskResponse>> futures = new ArrayList<>();
+        try (var callers = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                final var title = "Batched task " + i;
+                futures.add(callers.submit(() -> createAs(owner.getEmail(), title)));
+            }
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            final var response = futures.get(i).get(5, TimeUnit.SECONDS);
+            final Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT title, status, user_id FROM tasks WHERE id = ?", response.id());
+
+            assertEquals("Batched task " + i, response.title());
+            assertEquals("Batched task " + i, row.get("TITLE"));
+            assertEquals("TO_DO", String.valueOf(row.get("STATUS")));
+            assertEquals(owner.getId().longValue(), ((Number) row.get("USER_ID")).longValue());
+            assertEquals(owner.getEmail(), response.userEmail());
+            assertFalse(knownTaskIdFilter.isDefinitelyAbsent(response.id()));
+        }
+        assertEquals(4L, (long) jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Long.class));
+    }
+
+    private TaskResponse createAs(String email, String title) {
+        final var user = User.withUsername(email).password("unused").authorities(List.of()).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        try {
+            return batcher.createTask(new CreateTaskRequest(title, "Inserted in one statement"));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void deleteAllData() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+}
@@ -0,0 +1,257 @@
+package com.dominik.todolist.service;
+
+import com.dominik.todolist.config.TaskChangesProperties;
+import com.dominik.todolist.config.TaskCleanupProperties;
+import com.dominik.todolist.config.RequestDeadlineProperties;
+import com.dominik.todolist.config.TaskCreateBatchProperties;
+import com.dominik.todolist.datasource.ReadYourWritesTracker;
+import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.dto.TaskResponse;
+import com.dominik.todolist.event.TaskChangeType;
+import com.dominik.todolist.event.TaskChangedEvent;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.model.Task;
+import com.dominik.todolist.model.TaskStatus;
+import com.dominik.todolist.repository.TaskRepository;
+import com.dominik.todolist.service.auth.AuthenticatedUserService;
+import com.dominik.todolist.web.RequestDeadlineFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCreateBatcherTest {
+    private static final AppUser OWNER = AppUser.builder()
+            .id(1L)
+            .email("test.user@example.com")
+            .name("Test User")
+            .build();
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private AuthenticatedUserService authenticatedUserService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private KnownTaskIdFilter knownTaskIdFilter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(Duration.ofSeconds(30));
+    private final List<Integer> insertedBatchSizes = new CopyOnWriteArrayList<>();
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private TaskCreateBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        when(authenticatedUserService.getAuthenticatedUser()).thenReturn(OWNER);
+        // Lenient: a caller that times out never reaches the database.
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        final var nextId = new AtomicLong(100);
+        lenient().when(taskRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            final List<Task> tasks = invocation.getArgument(0);
+            insertedBatchSizes.add(tasks.size());
+            if (tasks.stream().anyMatch(task -> task.getTitle().equals("Broken"))) {
+                throw new DataIntegrityViolationException("broken task");
+            }
+            if (tasks.stream().anyMatch(task -> task.getTitle().equals("Slow"))) {
+                Thread.sleep(300);
+            }
+            if (tasks.stream().anyMatch(task -> task.getTitle().equals("Fatal"))) {
+                throw new StackOverflowError("fatal task");
+            }
+            tasks.forEach(task -> task.setId(nextId.incrementAndGet()));
+            return tasks;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (batcher != null && batcher.isRunning()) {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("createTask - concurrent calls share one insert and each get their own task")
+    void createTask_shouldInsertConcurrentCallsAsOneBatch() throws Exception {
+        startBatcher(3, 5_000);
+
+        final var first = submit("First");
+        final var second = submit("Second");
+        final var third = submit("Third");
+
+        final var responses = List.of(
+                first.get(5, TimeUnit.SECONDS),
+                second.get(5, TimeUnit.SECONDS),
+                third.get(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of(3), insertedBatchSizes);
+        assertEquals(List.of("First", "Second", "Third"), responses.stream().map(TaskResponse::title).toList());
+        assertEquals(3, responses.stream().map(TaskResponse::id).distinct().count());
+        for (TaskResponse response : responses) {
+            assertEquals(TaskStatus.TO_DO, response.status());
+            assertEquals(OWNER.getEmail(), response.userEmail());
+            assertEquals(response.createdAt(), response.updatedAt());
+            verify(knownTaskIdFilter).add(response.id());
+            verify(eventPublisher).publishEvent(TaskChangedEvent.of(TaskChangeType.CREATED, response));
+        }
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("createTask - a failing batch is retried per task and only the bad caller fails")
+    void createTask_shouldRetryFailedBatchOneByOne() throws Exception {
+        startBatcher(3, 5_000);
+
+        final var good = submit("Good");
+        final var broken = submit("Broken");
+        final var alsoGood = submit("Also good");
+
+        assertEquals("Good", good.get(5, TimeUnit.SECONDS).title());
+        assertEquals("Also good", alsoGood.get(5, TimeUnit.SECONDS).title());
+        final var failure = assertThrows(ExecutionException.class, () -> broken.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DataIntegrityViolationException.class, failure.getCause());
+
+        assertEquals(List.of(3, 1, 1, 1), insertedBatchSizes);
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("createTask - a lone call is flushed once the window closes")
+    void createTask_shouldFlushPartialBatchAfterWindow() throws Exception {
+        startBatcher(64, 20);
+
+        final var response = submit("Alone").get(5, TimeUnit.SECONDS);
+
+        assertEquals("Alone", response.title());
+        assertEquals(List.of(1), insertedBatchSizes);
+    }
+
+    @Test
+    @DisplayName("createTask - an error on the flusher fails its caller and later calls still go through")
+    void createTask_shouldSurviveErrorsOnFlusher() throws Exception {
+        startBatcher(64, 20);
+
+        final var failure = assertThrows(ExecutionException.class, () -> submit("Fatal").get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, failure.getCause());
+
+        assertEquals("After", submit("After").get(5, TimeUnit.SECONDS).title());
+        assertEquals(List.of(1, 1), insertedBatchSizes);
+    }
+
+    @Test
+    @DisplayName("createTask - a caller past its request deadline gets a timeout and its task is never inserted")
+    void createTask_shouldGiveUpAtRequestDeadline() throws Exception {
+        startBatcher(64, 5_000);
+        final var filter = new RequestDeadlineFilter(new RequestDeadlineProperties(
+                true, "X-Request-Timeout", 10_000, Map.of(), 30_000));
+        final var request = new MockHttpServletRequest("POST", "/api/tasks");
+        request.addHeader("X-Request-Timeout", "50");
+
+        final var caller = callers.submit(() -> {
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                    assertThrows(TransactionTimedOutException.class,
+                            () -> batcher.createTask(new CreateTaskRequest("Too late", "Description"))));
+            return null;
+        });
+        caller.get(5, TimeUnit.SECONDS);
+        batcher.stop();
+
+        assertEquals(List.of(), insertedBatchSizes);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("createTask - a caller whose deadline passes during its insert waits for the committed task")
+    void createTask_shouldWaitForClaimedTaskPastDeadline() throws Exception {
+        startBatcher(64, 20);
+        final var filter = new RequestDeadlineFilter(new RequestDeadlineProperties(
+                true, "X-Request-Timeout", 10_000, Map.of(), 30_000));
+        final var request = new MockHttpServletRequest("POST", "/api/tasks");
+        request.addHeader("X-Request-Timeout", "100");
+
+        final var created = new CopyOnWriteArrayList<TaskResponse>();
+        callers.submit(() -> {
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                    created.add(batcher.createTask(new CreateTaskRequest("Slow", "Description"))));
+            return null;
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("Slow"), created.stream().map(TaskResponse::title).toList());
+        assertEquals(List.of(1), insertedBatchSizes);
+    }
+
+    @Test
+    @DisplayName("createTask - pins the caller's request to the primary once its task is committed")
+    void createTask_shouldRecordReadYourWritesOnCallerThread() throws Exception {
+        startBatcher(64, 20);
+
+        final var pinned = callers.submit(() -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            try {
+                batcher.createTask(new CreateTaskRequest("Pinned", "Description"));
+                return readYourWritesTracker.isPinnedToPrimary();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+
+        assertTrue(pinned.get(5, TimeUnit.SECONDS));
+    }
+
+    private void startBatcher(int maxBatchSize, long windowMs) {
+        final var taskService = new TaskService(taskRepository, authenticatedUserService,
+                new TaskCleanupProperties(30, 500), new TaskChangesProperties(0),
+                eventPublisher, knownTaskIdFilter);
+        batcher = new TaskCreateBatcher(new TaskCreateBatchProperties(true, maxBatchSize, windowMs),
+                taskRepository, taskService, authenticatedUserService, eventPublisher, knownTaskIdFilter,
+                transactionManager,
+                new StaticListableBeanFactory(Map.of("readYourWritesTracker", readYourWritesTracker))
+                        .getBeanProvider(ReadYourWritesTracker.class),
+                new SimpleMeterRegistry());
+        batcher.start();
+    }
+
+    private Future<TaskResponse> submit(String title) {
+        return callers.submit(() -> batcher.createTask(new CreateTaskRequest(title, "Description")));
+    }
+}
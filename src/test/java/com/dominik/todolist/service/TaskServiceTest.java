@@ -1,7 +1,10 @@
 package com.dominik.todolist.service;
 
 import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.dto.TaskField;
 import com.dominik.todolist.dto.TaskRequest;
+import com.dominik.todolist.event.TaskChangeType;
+import com.dominik.todolist.event.TaskChangedEvent;
 import com.dominik.todolist.exception.TaskNotFoundException;
 import com.dominik.todolist.model.AppUser;
 import com.dominik.todolist.model.Task;
@@ -11,15 +14,18 @@ import com.dominik.todolist.service.auth.AuthenticatedUserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +43,12 @@ public class TaskServiceTest {
     @Mock
     private AuthenticatedUserService authenticatedUserService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private KnownTaskIdFilter knownTaskIdFilter;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -99,16 +111,31 @@ public class TaskServiceTest {
 
         when(taskRepository.findByUserIdAndOptionalStatus(eq(mockUser.getId()), eq(null), any(Pageable.class))).thenReturn(mockPage);
 
-        final var results = taskService.getAllTasksForCurrentUser(null, pageable);
+        final var results = taskService.getAllTasksForCurrentUser(null, pageable, false, Set.of());
 
-        assertEquals(2, results.getContent().size());
-        assertEquals("Task 1", results.getContent().get(0).title());
-        assertEquals(102L, results.getContent().get(1).id());
+        assertEquals(TEST_USER_ID, results.owner().id());
+        assertEquals(TEST_USER_EMAIL, results.owner().email());
+        assertEquals(2, results.content().size());
+        assertEquals("Task 1", results.content().get(0).title());
+        assertEquals(102L, results.content().get(1).id());
+        assertEquals(2, results.page().totalElements());
 
         verify(authenticatedUserService).getAuthenticatedUser();
         verify(taskRepository).findByUserIdAndOptionalStatus(mockUser.getId(), null, pageable);
     }
 
+    @Test
+    @DisplayName("previewOf - should shorten long descriptions without splitting a character")
+    void previewOf_shouldShortenLongDescriptions() {
+        final var longDescription = "a".repeat(150);
+        final var emojiAtCut = "a".repeat(98) + "\uD83D\uDE00" + "a".repeat(10);
+
+        assertNull(TaskService.previewOf(null));
+        assertEquals("short", TaskService.previewOf("short"));
+        assertEquals("a".repeat(99) + "\u2026", TaskService.previewOf(longDescription));
+        assertEquals("a".repeat(98) + "\u2026", TaskService.previewOf(emojiAtCut));
+    }
+
     @Test
     @DisplayName("getTaskByIdAndAppUser - should throw exception when task not found")
     void getTaskByIdAndAppUser_shouldThrowException_whenTaskNotFound() {
@@ -121,12 +148,63 @@ public class TaskServiceTest {
         when(authenticatedUserService.getAuthenticatedUser()).thenReturn(mockUser);
         when(taskRepository.findById(nonExistentTaskId)).thenReturn(Optional.empty());
 
-        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskByIdAndAppUser(nonExistentTaskId));
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskByIdAndAppUser(nonExistentTaskId, Set.of()));
 
         verify(taskRepository).findById(nonExistentTaskId);
         verify(authenticatedUserService).getAuthenticatedUser();
     }
 
+    @Test
+    @DisplayName("getTaskByIdAndAppUser - should not query the database for an ID the filter rules out")
+    void getTaskByIdAndAppUser_shouldSkipLookups_whenFilterRulesOutId() {
+        final var unknownTaskId = 999_999L;
+        when(knownTaskIdFilter.isDefinitelyAbsent(unknownTaskId)).thenReturn(true);
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskByIdAndAppUser(unknownTaskId, Set.of()));
+
+        verifyNoInteractions(taskRepository, authenticatedUserService);
+    }
+
+    @Test
+    @DisplayName("getTaskByIdAndAppUser - should record a false positive when a sparse lookup finds nothing")
+    void getTaskByIdAndAppUser_shouldRecordFalsePositive_whenFieldsLookupFindsNothing() {
+        final var nonExistentTaskId = 99L;
+        final var fields = Set.of(TaskField.TITLE);
+        final var mockUser = AppUser.builder()
+                .id(TEST_USER_ID)
+                .email(TEST_USER_EMAIL)
+                .build();
+
+        when(authenticatedUserService.getAuthenticatedUser()).thenReturn(mockUser);
+        when(taskRepository.findFieldsByIdAndUserId(nonExistentTaskId, TEST_USER_ID, fields))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsById(nonExistentTaskId)).thenReturn(false);
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskByIdAndAppUser(nonExistentTaskId, fields));
+
+        verify(knownTaskIdFilter).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("getTaskByIdAndAppUser - should not record a false positive when a sparse lookup hits another user's task")
+    void getTaskByIdAndAppUser_shouldNotRecordFalsePositive_whenFieldsLookupHitsAnotherUsersTask() {
+        final var otherUsersTaskId = TEST_TASK_ID;
+        final var fields = Set.of(TaskField.TITLE);
+        final var mockUser = AppUser.builder()
+                .id(TEST_USER_ID)
+                .email(TEST_USER_EMAIL)
+                .build();
+
+        when(authenticatedUserService.getAuthenticatedUser()).thenReturn(mockUser);
+        when(taskRepository.findFieldsByIdAndUserId(otherUsersTaskId, TEST_USER_ID, fields))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsById(otherUsersTaskId)).thenReturn(true);
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskByIdAndAppUser(otherUsersTaskId, fields));
+
+        verify(knownTaskIdFilter, never()).recordFalsePositive();
+    }
+
     @Test
     @DisplayName("getTaskByIdAndAppUser - should return task when found and owned by user")
     void getTaskByIdAndAppUser_shouldReturnTask_whenFoundAndOwnedByUser() {
@@ -145,7 +223,7 @@ public class TaskServiceTest {
         when(authenticatedUserService.getAuthenticatedUser()).thenReturn(mockUser);
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTask));
 
-        final var result = taskService.getTaskByIdAndAppUser(taskId);
+        final var result = taskService.getTaskByIdAndAppUser(taskId, Set.of());
 
         assertNotNull(result);
         assertEquals("My Task", result.title());
@@ -176,7 +254,7 @@ public class TaskServiceTest {
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(taskOfUserB));
 
         assertThrows(TaskNotFoundException.class, () ->
-                        taskService.getTaskByIdAndAppUser(taskId),
+                        taskService.getTaskByIdAndAppUser(taskId, Set.of()),
                 "Should throw TaskNotFoundException to prevent information leakage");
 
         verify(taskRepository).findById(taskId);
@@ -215,8 +293,8 @@ public class TaskServiceTest {
     }
 
     @Test
-    @DisplayName("deleteTask - should call delete on the repository")
-    void deleteTask_shouldCallDelete() {
+    @DisplayName("deleteTask - should mark the task deleted with an application timestamp")
+    void deleteTask_shouldMarkTaskDeleted() {
         final var taskId = TEST_TASK_ID;
         final var mockUser = AppUser.builder()
                 .id(TEST_USER_ID)
@@ -229,6 +307,33 @@ public class TaskServiceTest {
 
         assertDoesNotThrow(() -> taskService.deleteTask(taskId));
 
-        verify(taskRepository).delete(existingTask);
+        assertTrue(existingTask.isDeleted());
+        assertNotNull(existingTask.getDeletedAt());
+        verify(taskRepository, never()).delete(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("deleteTask - should publish a DELETED event for the task owner")
+    void deleteTask_shouldPublishDeletedEvent() {
+        final var taskId = TEST_TASK_ID;
+        final var mockUser = AppUser.builder()
+                .id(TEST_USER_ID)
+                .email(TEST_USER_EMAIL)
+                .build();
+        final var existingTask = Task.builder().id(taskId).appUser(mockUser).build();
+
+        when(authenticatedUserService.getAuthenticatedUser()).thenReturn(mockUser);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+
+        taskService.deleteTask(taskId);
+
+        final var eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+
+        final var event = eventCaptor.getValue();
+        assertEquals(TaskChangeType.DELETED, event.type());
+        assertEquals(taskId, event.taskId());
+        assertEquals(TEST_USER_ID, event.userId());
+        assertNull(event.task());
     }
-}
\ No newline at end of file
+}
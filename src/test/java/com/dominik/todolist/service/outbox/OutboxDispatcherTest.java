@@ -0,0 +1,131 @@
+package com.dominik.todolist.service.outbox;
+
+import com.dominik.todolist.dto.CreateTaskRequest;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.repository.AppUserRepository;
+import com.dominik.todolist.repository.OutboxEventRepository;
+import com.dominik.todolist.repository.TaskRepository;
+import com.dominik.todolist.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.outbox.enabled=false")
+@Transactional
+@ActiveProfiles("test")
+public class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RecordingHandler recordingHandler;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        taskRepository.deleteAll();
+        appUserRepository.deleteAll();
+        recordingHandler.reset();
+
+        appUserRepository.save(
+                AppUser.builder()
+                        .email("outbox.user@example.com")
+                        .name("Outbox User")
+                        .password(passwordEncoder.encode("password"))
+                        .build()
+        );
+    }
+
+    @Test
+    @DisplayName("createTask - should write an outbox row that the dispatcher delivers and removes")
+    @WithMockUser("outbox.user@example.com")
+    void whenTaskIsCreated_thenEventIsDeliveredFromOutbox() {
+        final var createdTask = taskService.createTask(new CreateTaskRequest("Outbox Task", "..."));
+
+        assertEquals(1, outboxEventRepository.count(), "The event should be stored with the task.");
+
+        assertEquals(1, outboxDispatcher.dispatchBatch());
+
+        assertEquals(1, recordingHandler.messages.size());
+        final var message = recordingHandler.messages.getFirst();
+        assertEquals("Task", message.aggregateType());
+        assertEquals(createdTask.id(), message.aggregateId());
+        assertEquals("CREATED", message.eventType());
+        assertTrue(message.payload().contains("Outbox Task"));
+        assertEquals(0, outboxEventRepository.count(), "Delivered events should be removed.");
+    }
+
+    @Test
+    @DisplayName("dispatchBatch - should keep a failed event and schedule a retry")
+    @WithMockUser("outbox.user@example.com")
+    void whenHandlerFails_thenEventIsKeptForRetry() {
+        taskService.createTask(new CreateTaskRequest("Failing Task", "..."));
+        recordingHandler.failing = true;
+
+        assertEquals(0, outboxDispatcher.dispatchBatch());
+
+        final var pending = outboxEventRepository.findAll();
+        assertEquals(1, pending.size());
+        assertEquals(1, pending.getFirst().getAttempts());
+        assertTrue(pending.getFirst().getNextAttemptAt().isAfter(Instant.now()));
+        assertNotNull(pending.getFirst().getLastError());
+
+        assertEquals(0, outboxDispatcher.dispatchBatch(), "The event should not be due again before its backoff.");
+    }
+
+    @TestConfiguration
+    static class HandlerConfig {
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    static class RecordingHandler implements OutboxEventHandler {
+        private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public void handle(OutboxMessage message) {
+            if (failing) {
+                throw new IllegalStateException("Handler is unavailable");
+            }
+            messages.add(message);
+        }
+
+        void reset() {
+            messages.clear();
+            failing = false;
+        }
+    }
+}
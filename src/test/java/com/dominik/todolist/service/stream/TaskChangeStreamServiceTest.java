@@ -0,0 +1,115 @@
+package com.dominik.todolist.service.stream;
+
+import com.dominik.todolist.config.TaskStreamProperties;
+import com.dominik.todolist.event.TaskChangedEvent;
+import com.dominik.todolist.model.AppUser;
+import com.dominik.todolist.service.auth.AuthenticatedUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskChangeStreamServiceTest {
+    private static final Long TEST_USER_ID = 1L;
+    private static final int BUFFER_SIZE = 2;
+
+    @Mock
+    private AuthenticatedUserService authenticatedUserService;
+
+    @Mock
+    private ExecutorService stalledExecutor;
+
+    private TaskChangeStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        when(authenticatedUserService.getAuthenticatedUser())
+                .thenReturn(AppUser.builder().id(TEST_USER_ID).email("stream.user@example.com").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - should evict a connection whose buffer is full")
+    void onTaskChanged_shouldEvictSlowConsumer() {
+        // The mocked executor never runs the sender, so nothing is drained from the buffer.
+        streamService = new TaskChangeStreamService(properties(5), authenticatedUserService, stalledExecutor);
+        streamService.subscribe();
+
+        // The "connected" comment already takes one slot of the buffer.
+        streamService.onTaskChanged(TaskChangedEvent.deleted(10L, TEST_USER_ID));
+        assertEquals(1, streamService.getOpenConnectionCount());
+
+        streamService.onTaskChanged(TaskChangedEvent.deleted(11L, TEST_USER_ID));
+        assertEquals(0, streamService.getOpenConnectionCount());
+        assertEquals(1, streamService.getEvictedConnectionCount());
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - should count a connection the client closed apart from evictions")
+    void onTaskChanged_shouldNotEvictClosedConnection() {
+        final var inlineExecutor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(inlineExecutor).execute(any());
+        streamService = new TaskChangeStreamService(properties(5), authenticatedUserService, inlineExecutor);
+        streamService.subscribe().complete();
+
+        // The first send fails on the completed emitter and closes the connection; the next event finds it closed.
+        streamService.onTaskChanged(TaskChangedEvent.deleted(10L, TEST_USER_ID));
+        streamService.onTaskChanged(TaskChangedEvent.deleted(11L, TEST_USER_ID));
+
+        assertEquals(0, streamService.getOpenConnectionCount());
+        assertEquals(0, streamService.getEvictedConnectionCount());
+        assertEquals(1, streamService.getClosedConnectionCount());
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - should ignore events of users without open connections")
+    void onTaskChanged_shouldIgnoreOtherUsers() {
+        streamService = new TaskChangeStreamService(properties(5), authenticatedUserService, stalledExecutor);
+        streamService.subscribe();
+
+        for (long taskId = 0; taskId < BUFFER_SIZE * 2; taskId++) {
+            streamService.onTaskChanged(TaskChangedEvent.deleted(taskId, 2L));
+        }
+
+        assertEquals(1, streamService.getOpenConnectionCount());
+        assertEquals(0, streamService.getEvictedConnectionCount());
+    }
+
+    @Test
+    @DisplayName("subscribe - should close the oldest connection above the per-user limit")
+    void subscribe_shouldEnforceConnectionLimit() {
+        streamService = new TaskChangeStreamService(
+                properties(2), authenticatedUserService, Executors.newSingleThreadExecutor());
+
+        streamService.subscribe();
+        streamService.subscribe();
+        streamService.subscribe();
+
+        assertEquals(2, streamService.getOpenConnectionCount());
+        assertEquals(1, streamService.getEvictedConnectionCount());
+    }
+
+    private static TaskStreamProperties properties(int maxConnectionsPerUser) {
+        return new TaskStreamProperties(BUFFER_SIZE, 15000, 60000, maxConnectionsPerUser, 1, 10000);
+    }
+}
@@ -0,0 +1,50 @@
+package com.dominik.todolist.service.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskStreamConnectionTest {
+
+    @Test
+    @DisplayName("abort - should release a sender blocked on a client that stopped reading")
+    void abort_shouldInterruptStalledSend() throws Exception {
+        final var sendStarted = new CountDownLatch(1);
+        final var sendInterrupted = new CountDownLatch(1);
+        final var blockingEmitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                sendStarted.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    sendInterrupted.countDown();
+                    throw new IOException(e);
+                }
+            }
+        };
+
+        try (var sender = Executors.newSingleThreadExecutor()) {
+            final var connection = new TaskStreamConnection(1L, blockingEmitter, 2, sender);
+            connection.offer(SseEmitter.event().comment("stuck"));
+            assertTrue(sendStarted.await(5, TimeUnit.SECONDS));
+
+            assertFalse(connection.isSendStalled(TimeUnit.SECONDS.toNanos(30)));
+            Thread.sleep(20);
+            assertTrue(connection.isSendStalled(TimeUnit.MILLISECONDS.toNanos(10)));
+
+            connection.abort();
+
+            assertTrue(sendInterrupted.await(5, TimeUnit.SECONDS));
+            assertTrue(connection.isClosed());
+        }
+    }
+}
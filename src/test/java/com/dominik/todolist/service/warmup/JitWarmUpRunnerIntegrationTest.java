@@ -0,0 +1,56 @@
+package com.dominik.todolist.service.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Not transactional: the warm-up commits each call and cleans up after itself, which is what is being tested.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class JitWarmUpRunnerIntegrationTest {
+
+    @Autowired
+    private JitWarmUpRunner warmUpRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Test
+    @DisplayName("Warm-up completes every round, writes no outbox rows and deletes its throwaway user and tasks")
+    void whenWarmUpRuns_thenRoundsCompleteAndNoRowsRemain() {
+        final long users = count("users");
+        final long tasks = count("tasks");
+        final long outbox = count("outbox");
+
+        assertEquals(20, warmUpRunner.warmUp());
+
+        assertEquals(users, count("users"));
+        assertEquals(tasks, count("tasks"));
+        assertEquals(outbox, count("outbox"));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Readiness is reported once startup, including warm-up, has finished")
+    void whenContextHasStarted_thenAcceptingTraffic() {
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.dominik.todolist.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so integration tests can
+ * hold each endpoint to a statement budget. Registered for all tests through
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ *
+ * <p>Counting is per thread, so scheduled jobs running in the background do not skew the result.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        final var recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Runs the action against an empty persistence context and fails if it, including the flush of
+     * its pending changes, executes more than the given number of statements.
+     *
+     * @param budget The maximum number of statements the action may execute.
+     * @param description What is being measured, e.g. the endpoint, for the failure message.
+     * @param entityManager The test's entity manager, flushed and cleared before measuring.
+     * @param action The code under test, typically a MockMvc request.
+     */
+    public static void assertStatementBudget(int budget, String description, EntityManager entityManager,
+                                             ThrowingRunnable action) throws Exception {
+        final var statements = recordStatements(entityManager, action);
+        if (statements.size() > budget) {
+            fail(description + " executed " + statements.size() + " SQL statements, over its budget of "
+                    + budget + ":\n  " + String.join("\n  ", statements));
+        }
+    }
+
+    /**
+     * Runs the action against an empty persistence context and returns the statements it executed,
+     * including the flush of its pending changes.
+     */
+    public static List<String> recordStatements(EntityManager entityManager, ThrowingRunnable action) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        final List<String> statements = new ArrayList<>();
+        RECORDED.set(statements);
+        try {
+            action.run();
+            entityManager.flush();
+        } finally {
+            RECORDED.remove();
+        }
+        return statements;
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,115 @@
+package com.dominik.todolist.web;
+
+import com.dominik.todolist.config.LoadSheddingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(new LoadSheddingProperties(true, initialLimit, 2, 100, 500, 0.5, 1));
+    }
+
+    @Test
+    @DisplayName("Should reject reads before writes and writes before auth requests")
+    void tryAcquire_shouldRankAuthAboveWritesAboveReads() {
+        final var limiter = limiter(20);
+        for (int i = 0; i < 15; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.READ));
+        }
+
+        assertFalse(limiter.tryAcquire(RequestPriority.READ));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.WRITE));
+        }
+        assertFalse(limiter.tryAcquire(RequestPriority.WRITE));
+        assertTrue(limiter.tryAcquire(RequestPriority.AUTH));
+        assertTrue(limiter.tryAcquire(RequestPriority.AUTH));
+        assertFalse(limiter.tryAcquire(RequestPriority.AUTH));
+
+        assertEquals(1, limiter.getRejectedCount(RequestPriority.READ));
+        assertEquals(1, limiter.getRejectedCount(RequestPriority.WRITE));
+        assertEquals(1, limiter.getRejectedCount(RequestPriority.AUTH));
+        assertEquals(20, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should cut the limit on slow responses, but not below the minimum")
+    void release_shouldBackOffOnSlowResponses() {
+        final var limiter = limiter(20);
+        long now = 0;
+
+        limiter.tryAcquire(RequestPriority.READ);
+        limiter.release(RequestPriority.READ, now, now += SLOW);
+        assertEquals(10, limiter.getLimit());
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(RequestPriority.READ);
+            limiter.release(RequestPriority.READ, now, now += SLOW);
+        }
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should back off once when requests admitted together all finish slow")
+    void release_shouldBackOffOncePerRoundTrip() {
+        final var limiter = limiter(40);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.READ));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            limiter.release(RequestPriority.READ, 0, SLOW + i);
+        }
+        assertEquals(20, limiter.getLimit());
+
+        limiter.tryAcquire(RequestPriority.READ);
+        limiter.release(RequestPriority.READ, 2 * SLOW, 3 * SLOW);
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should not let slow auth requests move the limit")
+    void release_auth_shouldNotChangeLimit() {
+        final var limiter = limiter(20);
+
+        limiter.tryAcquire(RequestPriority.AUTH);
+        limiter.release(RequestPriority.AUTH, 0, SLOW);
+
+        assertEquals(20, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit on fast responses only while it is being used")
+    void release_shouldGrowOnlyUnderLoad() {
+        final var limiter = limiter(4);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire(RequestPriority.WRITE);
+            limiter.release(RequestPriority.WRITE, 0, FAST);
+        }
+        assertEquals(4, limiter.getLimit());
+
+        for (int round = 0; round < 20; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire(RequestPriority.WRITE)) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(RequestPriority.WRITE, 0, FAST);
+            }
+        }
+        assertTrue(limiter.getLimit() > 4, "limit should have grown, was " + limiter.getLimit());
+    }
+}